@@ -0,0 +1,45 @@
+package dev.hireben.demo.common_libs.http.resolver;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class HttpBearerTokensBenchmark {
+
+  private final String header = "Bearer eyJhbGciOiJSUzI1NiJ9"
+      + ".eyJpc3MiOiJoaXJlYmVuLmRldiIsInN1YiI6IjEyMzQ1Njc4OSJ9"
+      + ".c2lnbmF0dXJlLXBsYWNlaG9sZGVyLXNpZ25hdHVyZS1wbGFjZWhvbGRlcg";
+  private final String subject = "123456789";
+
+  // =============================================================================
+
+  @Benchmark
+  public void substringAndRegex(Blackhole blackhole) {
+    blackhole.consume(header.substring("Bearer ".length()));
+    blackhole.consume(!subject.isBlank() && subject.matches("^\\d+$"));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  public void scanner(Blackhole blackhole) {
+    blackhole.consume(HttpBearerTokens.extractToken(header));
+    blackhole.consume(HttpBearerTokens.isNumeric(subject));
+  }
+
+}
@@ -0,0 +1,67 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class DirectJwtIssueBenchmark {
+
+  private static final List<String> AUDIENCES = List.of("api.hireben.dev");
+  private static final Duration TTL = Duration.ofMinutes(15);
+
+  @Param({ "HS256", "RS256" })
+  private String algorithm;
+
+  @Param({ "0", "8", "32" })
+  private int claimCount;
+
+  private JwtIssuer issuer;
+  private Map<String, Object> claims;
+
+  // =============================================================================
+
+  @Setup
+  public void setUp() {
+    issuer = JwtBenchmarkKeys.directIssuer(algorithm);
+    claims = JwtBenchmarkKeys.claims(claimCount);
+  }
+
+  // =============================================================================
+
+  @Benchmark
+  @Threads(1)
+  public String issueToken() {
+    return issuer.issueToken("1", AUDIENCES, claims, TTL, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String issueTokenContended() {
+    return issuer.issueToken("1", AUDIENCES, claims, TTL, null);
+  }
+
+}
@@ -0,0 +1,109 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtTokenSpec;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtBatchIssueBenchmark {
+
+  @Param({ "HS256", "RS256" })
+  private String algorithm;
+
+  @Param({ "builder", "direct" })
+  private String issuerType;
+
+  @Param({ "16", "256" })
+  private int batchSize;
+
+  private JwtIssuer issuer;
+  private List<JwtTokenSpec> specs;
+  private ExecutorService virtualThreads;
+
+  // =============================================================================
+
+  @Setup
+  public void setUp() {
+    issuer = "direct".equals(issuerType)
+        ? JwtBenchmarkKeys.directIssuer(algorithm)
+        : JwtBenchmarkKeys.issuer(algorithm);
+
+    specs = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      specs.add(JwtTokenSpec.builder()
+          .subject(String.valueOf(i))
+          .audiences(List.of("api.hireben.dev"))
+          .claims(JwtBenchmarkKeys.claims(8))
+          .ttl(Duration.ofMinutes(15))
+          .build());
+    }
+
+    virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @TearDown
+  public void tearDown() {
+    virtualThreads.close();
+  }
+
+  // =============================================================================
+
+  @Benchmark
+  public List<String> loop() {
+    List<String> tokens = new ArrayList<>(specs.size());
+    for (JwtTokenSpec spec : specs) {
+      tokens.add(issuer.issueToken(spec.getSubject(), spec.getAudiences(), spec.getClaims(), spec.getTtl(),
+          spec.getNbf()));
+    }
+    return tokens;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  public List<String> batch() {
+    return issuer.issueTokens(specs);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  public List<String> batchOnForkJoinPool() {
+    return issuer.issueTokens(specs, ForkJoinPool.commonPool());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  public List<String> batchOnVirtualThreads() {
+    return issuer.issueTokens(specs, virtualThreads);
+  }
+
+}
@@ -0,0 +1,132 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsViewVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.reader.KeyReader;
+import io.jsonwebtoken.Jwts;
+
+final class JwtBenchmarkKeys {
+
+  static final String ISSUER_NAME = "hireben.dev";
+
+  private static final SecretKey SYMMETRIC_KEY = Jwts.SIG.HS256.key().build();
+  private static final Map<String, String> KEY_FILES = Map.of(
+      "RS256", "rsa",
+      "ES256", "ec-p256",
+      "ES384", "ec-p384",
+      "EdDSA", "ed25519");
+
+  private static final Map<String, PrivateKey> PRIVATE_KEYS = new HashMap<>();
+  private static final Map<String, PublicKey> PUBLIC_KEYS = new HashMap<>();
+
+  static {
+    try {
+      for (Map.Entry<String, String> file : KEY_FILES.entrySet()) {
+        PRIVATE_KEYS.put(file.getKey(),
+            KeyReader.readPrivateKeyPkcs8(resource("/" + file.getValue() + "-private-pkcs8.pem")));
+        PUBLIC_KEYS.put(file.getKey(),
+            KeyReader.readPublicKeyX509(resource("/" + file.getValue() + "-public-x509.pem")));
+      }
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to read benchmark keys", e);
+    }
+  }
+
+  // =============================================================================
+
+  private JwtBenchmarkKeys() {
+  }
+
+  // =============================================================================
+
+  static JwtIssuer issuer(String algorithm) {
+    return switch (algorithm) {
+      case "none" -> JwtClients.newIssuer(ISSUER_NAME);
+      case "HS256" -> JwtClients.newIssuerWithSymmetricKey(ISSUER_NAME, SYMMETRIC_KEY);
+      default -> JwtClients.newIssuerWithPrivateKey(ISSUER_NAME, privateKey(algorithm));
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static JwtIssuer directIssuer(String algorithm) {
+    return switch (algorithm) {
+      case "HS256" -> JwtClients.newDirectIssuerWithSymmetricKey(ISSUER_NAME, SYMMETRIC_KEY);
+      default -> JwtClients.newDirectIssuerWithPrivateKey(ISSUER_NAME, privateKey(algorithm));
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static JwtVerifier verifier(String algorithm) {
+    return switch (algorithm) {
+      case "none" -> JwtClients.newVerifier();
+      case "HS256" -> JwtClients.newVerifierWithSymmetricKey(SYMMETRIC_KEY);
+      default -> JwtClients.newVerifierWithPublicKey(publicKey(algorithm));
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static JwtClaimsViewVerifier claimsViewVerifier(String algorithm) {
+    return switch (algorithm) {
+      case "HS256" -> JwtClients.newClaimsViewVerifierWithSymmetricKey(SYMMETRIC_KEY);
+      default -> JwtClients.newClaimsViewVerifierWithPublicKey(publicKey(algorithm));
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static Map<String, Object> claims(int count) {
+    Map<String, Object> claims = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      claims.put("claim-" + i, "value-" + i);
+    }
+    return claims;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static PrivateKey privateKey(String algorithm) {
+    PrivateKey key = PRIVATE_KEYS.get(algorithm);
+    if (key == null) {
+      throw new IllegalArgumentException("Unsupported benchmark algorithm: " + algorithm);
+    }
+    return key;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static PublicKey publicKey(String algorithm) {
+    PublicKey key = PUBLIC_KEYS.get(algorithm);
+    if (key == null) {
+      throw new IllegalArgumentException("Unsupported benchmark algorithm: " + algorithm);
+    }
+    return key;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static String resource(String name) {
+    try (InputStream in = JwtBenchmarkKeys.class.getResourceAsStream(name)) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+}
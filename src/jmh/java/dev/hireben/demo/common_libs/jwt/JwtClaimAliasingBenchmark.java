@@ -0,0 +1,133 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.hireben.demo.common_libs.constant.AuthClaimKey;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimDictionary;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsView;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsViewVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtClaimAliasingBenchmark {
+
+  @Param({ "HS256", "RS256" })
+  private String algorithm;
+
+  @Param({ "false", "true" })
+  private boolean aliased;
+
+  @Param({ "4", "32" })
+  private int groupCount;
+
+  private JwtIssuer issuer;
+  private JwtVerifier verifier;
+  private JwtClaimsViewVerifier viewVerifier;
+  private Map<String, Object> claims;
+  private String token;
+
+  // =============================================================================
+
+  @Setup
+  public void setUp() {
+    List<String> groups = IntStream.range(0, groupCount).mapToObj(i -> "organization-group-" + i).toList();
+
+    JwtClaimDictionary.JwtClaimDictionaryBuilder dictionary = JwtClaimDictionary.builder()
+        .alias(AuthClaimKey.GROUP, "g")
+        .groups(groups);
+
+    claims = new LinkedHashMap<>();
+    for (int i = 0; i < 8; i++) {
+      dictionary.alias("organization-custom-claim-" + i, "c" + i);
+      claims.put("organization-custom-claim-" + i, "value-" + i);
+    }
+    claims.put(AuthClaimKey.GROUP, groups);
+
+    issuer = JwtBenchmarkKeys.issuer(algorithm);
+    verifier = JwtBenchmarkKeys.verifier(algorithm);
+    viewVerifier = JwtBenchmarkKeys.claimsViewVerifier(algorithm);
+
+    if (aliased) {
+      JwtClaimDictionary built = dictionary.build();
+      issuer = JwtClients.newAliasingIssuer(issuer, built);
+      verifier = JwtClients.newAliasingVerifier(verifier, built);
+      viewVerifier = JwtClients.newAliasingClaimsViewVerifier(viewVerifier, built);
+    }
+
+    token = issueToken();
+  }
+
+  // =============================================================================
+
+  @Benchmark
+  public String issueToken() {
+    return issuer.issueToken("1", List.of("api.hireben.dev"), claims, Duration.ofDays(1), null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  public void verifyToken(Blackhole blackhole) {
+    Claims verified = verifier.verifyToken(token);
+    blackhole.consume(verified.getSubject());
+    blackhole.consume(verified.get(AuthClaimKey.GROUP, List.class));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  public void verifyClaimsView(Blackhole blackhole) {
+    JwtClaimsView verified = viewVerifier.verifyClaimsView(token);
+    blackhole.consume(verified.getSubject());
+    blackhole.consume(verified.getGroups());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  // Size does not vary per operation, so one shot reports it exactly as the tokenBytes counter
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  @Fork(1)
+  public void tokenSize(TokenSize size) {
+    size.tokenBytes = token.length();
+  }
+
+  // =============================================================================
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class TokenSize {
+
+    public long tokenBytes;
+
+  }
+
+}
@@ -0,0 +1,81 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import dev.hireben.demo.common_libs.constant.AuthClaimKey;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsView;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsViewVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtClaimsViewBenchmark {
+
+  @Param({ "HS256", "RS256" })
+  private String algorithm;
+
+  @Param({ "0", "8", "32", "128" })
+  private int claimCount;
+
+  private JwtVerifier verifier;
+  private JwtClaimsViewVerifier viewVerifier;
+  private String token;
+
+  // =============================================================================
+
+  @Setup
+  public void setUp() {
+    verifier = JwtBenchmarkKeys.verifier(algorithm);
+    viewVerifier = JwtBenchmarkKeys.claimsViewVerifier(algorithm);
+
+    Map<String, Object> claims = JwtBenchmarkKeys.claims(claimCount);
+    claims.put(AuthClaimKey.GROUP, List.of("admin", "user"));
+
+    token = JwtBenchmarkKeys.issuer(algorithm).issueToken(
+        "1",
+        List.of("api.hireben.dev"),
+        claims,
+        Duration.ofDays(1),
+        null);
+  }
+
+  // =============================================================================
+
+  @Benchmark
+  public void verifyToken(Blackhole blackhole) {
+    Claims claims = verifier.verifyToken(token);
+    blackhole.consume(claims.getSubject());
+    blackhole.consume(claims.get(AuthClaimKey.GROUP, List.class));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  public void verifyClaimsView(Blackhole blackhole) {
+    JwtClaimsView claims = viewVerifier.verifyClaimsView(token);
+    blackhole.consume(claims.getSubject());
+    blackhole.consume(claims.getGroups());
+  }
+
+}
@@ -0,0 +1,68 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIdGenerator;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtIdGeneratorBenchmark {
+
+  @Param({ "uuid", "striped" })
+  private String generatorName;
+
+  private JwtIdGenerator generator;
+
+  // =============================================================================
+
+  @Setup
+  public void setUp() {
+    generator = switch (generatorName) {
+      case "uuid" -> JwtIdGenerator.uuid();
+      case "striped" -> StripedJwtIdGenerator.DEFAULT;
+      default -> throw new IllegalArgumentException("Unknown generator: " + generatorName);
+    };
+  }
+
+  // =============================================================================
+
+  @Benchmark
+  @Threads(1)
+  public String nextId() {
+    return generator.nextId();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  @Threads(4)
+  public String nextIdFourThreads() {
+    return generator.nextId();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String nextIdContended() {
+    return generator.nextId();
+  }
+
+}
@@ -0,0 +1,76 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtSignatureAlgorithmBenchmark {
+
+  private static final List<String> AUDIENCES = List.of("api.hireben.dev");
+  private static final Duration TTL = Duration.ofMinutes(15);
+
+  @Param({ "RS256", "ES256", "ES384", "EdDSA" })
+  private String algorithm;
+
+  private JwtIssuer issuer;
+  private JwtIssuer directIssuer;
+  private JwtVerifier verifier;
+  private Map<String, Object> claims;
+  private String token;
+
+  // =============================================================================
+
+  @Setup
+  public void setUp() {
+    issuer = JwtBenchmarkKeys.issuer(algorithm);
+    directIssuer = JwtBenchmarkKeys.directIssuer(algorithm);
+    verifier = JwtBenchmarkKeys.verifier(algorithm);
+    claims = JwtBenchmarkKeys.claims(8);
+    token = issuer.issueToken("1", AUDIENCES, claims, Duration.ofDays(1), null);
+  }
+
+  // =============================================================================
+
+  @Benchmark
+  public String issueToken() {
+    return issuer.issueToken("1", AUDIENCES, claims, TTL, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  public String issueTokenDirect() {
+    return directIssuer.issueToken("1", AUDIENCES, claims, TTL, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  public Claims verifyToken() {
+    return verifier.verifyToken(token);
+  }
+
+}
@@ -0,0 +1,66 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+
+public final class JwtStartupProbe {
+
+  private static final List<String> TRAINING_ALGORITHMS = List.of("HS256", "RS256", "ES256", "ES384", "EdDSA");
+
+  // =============================================================================
+
+  private JwtStartupProbe() {
+  }
+
+  // =============================================================================
+
+  public static void main(String[] args) throws GeneralSecurityException, IOException {
+    long mainStart = System.nanoTime();
+
+    JwtIssuer issuer = JwtClients.newIssuerWithPrivateKeyPem(JwtBenchmarkKeys.ISSUER_NAME,
+        resource("/rsa-private-pkcs8.pem"));
+    JwtVerifier verifier = JwtClients.newVerifierWithPublicKeyPem(resource("/rsa-public-x509.pem"));
+
+    String token = issuer.issueToken("1", List.of("api.hireben.dev"), null, Duration.ofMinutes(1), null);
+    String subject = verifier.verifyToken(token).getSubject();
+
+    long sinceMain = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - mainStart);
+    long sinceJvmStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    System.out.printf("time-to-first-verified-token: %d ms since JVM start, %d ms since main (subject %s)%n",
+        sinceJvmStart, sinceMain, subject);
+
+    if (args.length > 0 && "--train".equals(args[0])) {
+      train();
+    }
+  }
+
+  // =============================================================================
+
+  // Exercise every supported path so the AOT cache covers more than the probe's own algorithm
+  private static void train() {
+    for (String algorithm : TRAINING_ALGORITHMS) {
+      JwtVerifier verifier = JwtBenchmarkKeys.verifier(algorithm);
+      JwtClients.warmUp(JwtBenchmarkKeys.issuer(algorithm), verifier);
+      JwtClients.warmUp(JwtBenchmarkKeys.directIssuer(algorithm), verifier);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static String resource(String name) throws IOException {
+    try (InputStream in = JwtStartupProbe.class.getResourceAsStream(name)) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+}
@@ -0,0 +1,69 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtVerifyBenchmark {
+
+  @Param({ "none", "HS256", "RS256" })
+  private String algorithm;
+
+  @Param({ "0", "8", "32" })
+  private int claimCount;
+
+  private JwtVerifier verifier;
+  private String token;
+
+  // =============================================================================
+
+  @Setup
+  public void setUp() {
+    verifier = JwtBenchmarkKeys.verifier(algorithm);
+    token = JwtBenchmarkKeys.issuer(algorithm).issueToken(
+        "1",
+        List.of("api.hireben.dev"),
+        JwtBenchmarkKeys.claims(claimCount),
+        Duration.ofDays(1),
+        null);
+  }
+
+  // =============================================================================
+
+  @Benchmark
+  @Threads(1)
+  public Claims verifyToken() {
+    return verifier.verifyToken(token);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public Claims verifyTokenContended() {
+    return verifier.verifyToken(token);
+  }
+
+}
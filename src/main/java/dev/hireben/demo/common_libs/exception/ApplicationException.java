@@ -6,4 +6,16 @@ public abstract class ApplicationException extends RuntimeException {
     super(message);
   }
 
+  // -----------------------------------------------------------------------------
+
+  protected ApplicationException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  protected ApplicationException(String message, boolean writableStackTrace) {
+    super(message, null, false, writableStackTrace);
+  }
+
 }
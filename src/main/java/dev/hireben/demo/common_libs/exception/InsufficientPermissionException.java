@@ -6,4 +6,10 @@ public final class InsufficientPermissionException extends ApplicationException
     super(message);
   }
 
+  // -----------------------------------------------------------------------------
+
+  public InsufficientPermissionException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
 }
@@ -0,0 +1,119 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+
+final class AccessLogDrainer implements AutoCloseable {
+
+  private static final int DRAIN_BATCH_SIZE = 256;
+  private static final long DRAIN_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+  private static final long DRAIN_MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+  private final Log logger;
+  private final AccessLogRingBuffer buffer;
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final StringBuilder message = new StringBuilder(128);
+  private volatile Thread drainer;
+  private volatile boolean running = true;
+
+  // =============================================================================
+
+  AccessLogDrainer(Log logger, int bufferCapacity) {
+    this.logger = logger;
+    this.buffer = new AccessLogRingBuffer(bufferCapacity);
+  }
+
+  // =============================================================================
+
+  void received(String requestId, String method, String uri, String protocol) {
+    start();
+    buffer.offerReceived(requestId, method, uri, protocol);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  void responded(String requestId, int status, long durationMillis) {
+    start();
+    buffer.offerResponded(requestId, status, durationMillis);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  long droppedCount() {
+    return buffer.droppedCount();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void close() {
+    running = false;
+    Thread current = drainer;
+
+    if (current == null) {
+      return;
+    }
+
+    LockSupport.unpark(current);
+
+    try {
+      current.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // =============================================================================
+
+  // Events are only offered while INFO is enabled, so the drainer starts with the first one
+  private void start() {
+    if (drainer == null && started.compareAndSet(false, true)) {
+      drainer = Thread.ofPlatform().name("access-log-drainer").daemon().start(this::drain);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void drain() {
+    long idleNanos = DRAIN_IDLE_NANOS;
+
+    while (running) {
+      if (buffer.drain(this::log, DRAIN_BATCH_SIZE) > 0) {
+        idleNanos = DRAIN_IDLE_NANOS;
+      } else {
+        LockSupport.parkNanos(idleNanos);
+        idleNanos = Math.min(idleNanos * 2, DRAIN_MAX_IDLE_NANOS);
+      }
+    }
+
+    while (buffer.drain(this::log, DRAIN_BATCH_SIZE) > 0) {
+      // Flush whatever was recorded before shutdown
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void log(AccessLogRingBuffer.Event event) {
+    message.setLength(0);
+    message.append("[id: ").append(event.requestId).append("] ");
+
+    if (event.received) {
+      message.append("received ")
+          .append(event.method).append(' ')
+          .append(event.uri);
+      if (event.protocol != null) {
+        message.append(' ').append(event.protocol);
+      }
+    } else {
+      message.append("responded ")
+          .append(event.status).append(" in ")
+          .append(event.durationMillis).append("ms");
+    }
+
+    logger.info(message.toString());
+  }
+
+}
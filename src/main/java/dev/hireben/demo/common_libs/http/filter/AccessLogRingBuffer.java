@@ -0,0 +1,152 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+final class AccessLogRingBuffer {
+
+  private final int mask;
+  private final Event[] events;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+  private long head;
+
+  // =============================================================================
+
+  AccessLogRingBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Buffer capacity must be positive");
+    }
+
+    int size = 2;
+    while (size < capacity) {
+      size <<= 1;
+    }
+
+    mask = size - 1;
+    events = new Event[size];
+    sequences = new AtomicLongArray(size);
+
+    for (int i = 0; i < size; i++) {
+      events[i] = new Event();
+      sequences.set(i, i);
+    }
+  }
+
+  // =============================================================================
+
+  void offerReceived(String requestId, String method, String uri, String protocol) {
+    long position = claim();
+
+    if (position < 0) {
+      return;
+    }
+
+    Event event = events[(int) position & mask];
+    event.received = true;
+    event.requestId = requestId;
+    event.method = method;
+    event.uri = uri;
+    event.protocol = protocol;
+
+    sequences.set((int) position & mask, position + 1);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  void offerResponded(String requestId, int status, long durationMillis) {
+    long position = claim();
+
+    if (position < 0) {
+      return;
+    }
+
+    Event event = events[(int) position & mask];
+    event.received = false;
+    event.requestId = requestId;
+    event.status = status;
+    event.durationMillis = durationMillis;
+
+    sequences.set((int) position & mask, position + 1);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  int drain(Consumer<Event> consumer, int limit) {
+    int drained = 0;
+
+    while (drained < limit) {
+      int index = (int) head & mask;
+
+      if (sequences.get(index) != head + 1) {
+        break;
+      }
+
+      Event event = events[index];
+      try {
+        consumer.accept(event);
+      } finally {
+        event.clear();
+        sequences.set(index, head + mask + 1);
+        head++;
+        drained++;
+      }
+    }
+
+    return drained;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  long droppedCount() {
+    return dropped.sum();
+  }
+
+  // =============================================================================
+
+  private long claim() {
+    long position = tail.get();
+
+    while (true) {
+      long delta = sequences.get((int) position & mask) - position;
+
+      if (delta == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          return position;
+        }
+      } else if (delta < 0) {
+        dropped.increment();
+        return -1;
+      }
+
+      position = tail.get();
+    }
+  }
+
+  // =============================================================================
+
+  static final class Event {
+
+    boolean received;
+    String requestId;
+    String method;
+    String uri;
+    String protocol;
+    int status;
+    long durationMillis;
+
+    // ---------------------------------------------------------------------------
+
+    private void clear() {
+      requestId = null;
+      method = null;
+      uri = null;
+      protocol = null;
+    }
+
+  }
+
+}
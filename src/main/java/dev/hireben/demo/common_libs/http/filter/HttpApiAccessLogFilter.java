@@ -11,19 +11,41 @@ import jakarta.servlet.http.HttpServletResponse;
 
 public final class HttpApiAccessLogFilter extends OncePerRequestFilter {
 
+  private final AccessLogDrainer drainer;
+
+  // =============================================================================
+
+  public HttpApiAccessLogFilter() {
+    drainer = null;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public HttpApiAccessLogFilter(int bufferCapacity) {
+    drainer = new AccessLogDrainer(logger, bufferCapacity);
+  }
+
+  // =============================================================================
+
   @Override
   protected void doFilterInternal(
       HttpServletRequest request,
       HttpServletResponse response,
       FilterChain filterChain) throws ServletException, IOException {
 
+    if (!logger.isInfoEnabled()) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
     if (!isAsyncDispatch(request)) {
-      logger.info(String.format(
-          "[id: %s] received %s %s %s",
-          request.getRequestId(),
-          request.getMethod(),
-          request.getRequestURI(),
-          request.getProtocol()));
+      if (drainer != null) {
+        drainer.received(request.getRequestId(), request.getMethod(), request.getRequestURI(),
+            request.getProtocol());
+      } else {
+        logger.info("[id: " + request.getRequestId() + "] received " + request.getMethod() + " "
+            + request.getRequestURI() + " " + request.getProtocol());
+      }
     }
 
     long start = System.currentTimeMillis();
@@ -33,14 +55,31 @@ public final class HttpApiAccessLogFilter extends OncePerRequestFilter {
     } finally {
 
       if (!isAsyncStarted(request)) {
-        logger.info(String.format(
-            "[id: %s] responded %d in %dms",
-            request.getRequestId(),
-            response.getStatus(),
-            System.currentTimeMillis() - start));
+        long elapsed = System.currentTimeMillis() - start;
+        if (drainer != null) {
+          drainer.responded(request.getRequestId(), response.getStatus(), elapsed);
+        } else {
+          logger.info("[id: " + request.getRequestId() + "] responded " + response.getStatus() + " in "
+              + elapsed + "ms");
+        }
       }
 
     }
   }
 
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void destroy() {
+    if (drainer != null) {
+      drainer.close();
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public long getDroppedCount() {
+    return drainer != null ? drainer.droppedCount() : 0;
+  }
+
 }
@@ -1,6 +1,8 @@
 package dev.hireben.demo.common_libs.http.filter;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -9,12 +11,27 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 public final class HttpApiKeyFilter extends OncePerRequestFilter {
 
-  private final String expectedApiKey;
+  public static final String CLIENT_ID_ATTRIBUTE = HttpApiKeyFilter.class.getName() + ".CLIENT_ID";
+
+  private static final String DEFAULT_CLIENT_ID = "default";
+
+  private final HttpApiKeyStore keyStore;
+
+  // =============================================================================
+
+  public HttpApiKeyFilter(String expectedApiKey) {
+    this(HttpApiKeyStore.of(Map.of(DEFAULT_CLIENT_ID,
+        Objects.requireNonNull(expectedApiKey, "Expected API key must not be null"))));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public HttpApiKeyFilter(HttpApiKeyStore keyStore) {
+    this.keyStore = Objects.requireNonNull(keyStore, "API key store must not be null");
+  }
 
   // =============================================================================
 
@@ -31,11 +48,15 @@ public final class HttpApiKeyFilter extends OncePerRequestFilter {
       return;
     }
 
-    if (!reqApiKey.strip().equals(expectedApiKey)) {
+    String clientId = keyStore.findClientId(reqApiKey.strip());
+
+    if (clientId == null) {
       response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid API key");
       return;
     }
 
+    request.setAttribute(CLIENT_ID_ATTRIBUTE, clientId);
+
     filterChain.doFilter(request, response);
   }
 
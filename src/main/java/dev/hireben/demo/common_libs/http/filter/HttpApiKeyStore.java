@@ -0,0 +1,208 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class HttpApiKeyStore implements AutoCloseable {
+
+  private static final System.Logger LOGGER = System.getLogger(HttpApiKeyStore.class.getName());
+  private static final int DIGEST_LENGTH = 32;
+  private static final MessageDigest SHA_256 = newSha256();
+
+  private final Path source;
+  private final ScheduledExecutorService reloader;
+  private volatile Map<Long, Client> clients;
+  private volatile FileTime lastModified;
+
+  // =============================================================================
+
+  private HttpApiKeyStore(Map<Long, Client> clients, Path source, FileTime lastModified, Duration reloadInterval) {
+    this.clients = clients;
+    this.source = source;
+    this.lastModified = lastModified;
+
+    if (reloadInterval == null) {
+      reloader = null;
+      return;
+    }
+
+    reloader = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("api-key-reload").daemon().factory());
+    reloader.scheduleWithFixedDelay(this::reloadQuietly, reloadInterval.toMillis(), reloadInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  // =============================================================================
+
+  public static HttpApiKeyStore of(Map<String, String> apiKeysByClientId) {
+    Objects.requireNonNull(apiKeysByClientId, "API keys must not be null");
+
+    Map<Long, Client> clients = new HashMap<>();
+    apiKeysByClientId.forEach((clientId, apiKey) -> index(clients, clientId, digest(apiKey)));
+
+    return new HttpApiKeyStore(Map.copyOf(clients), null, null, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public static HttpApiKeyStore fromFile(Path path) throws IOException {
+    return fromFile(path, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public static HttpApiKeyStore fromFile(Path path, Duration reloadInterval) throws IOException {
+    Objects.requireNonNull(path, "API key file must not be null");
+
+    if (reloadInterval != null && (reloadInterval.isNegative() || reloadInterval.isZero())) {
+      throw new IllegalArgumentException("Reload interval must be positive");
+    }
+
+    FileTime modified = Files.getLastModifiedTime(path);
+    return new HttpApiKeyStore(read(path), path, modified, reloadInterval);
+  }
+
+  // =============================================================================
+
+  public String findClientId(String apiKey) {
+    byte[] digest = digest(apiKey);
+    Client client = clients.get(ByteBuffer.wrap(digest).getLong());
+
+    if (client == null || !MessageDigest.isEqual(client.digest(), digest)) {
+      return null;
+    }
+
+    return client.clientId();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public int size() {
+    return clients.size();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public boolean reload() throws IOException {
+    if (source == null) {
+      return false;
+    }
+
+    FileTime modified = Files.getLastModifiedTime(source);
+
+    if (modified.equals(lastModified)) {
+      return false;
+    }
+
+    clients = read(source);
+    lastModified = modified;
+    return true;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void close() {
+    if (reloader != null) {
+      reloader.shutdownNow();
+    }
+  }
+
+  // =============================================================================
+
+  private void reloadQuietly() {
+    try {
+      reload();
+    } catch (IOException | RuntimeException e) {
+      // Keep serving the previously loaded keys until the file is readable again
+      LOGGER.log(System.Logger.Level.WARNING, "API key reload failed, keeping previously loaded keys", e);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static Map<Long, Client> read(Path path) throws IOException {
+    List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+    Map<Long, Client> clients = new HashMap<>();
+    HexFormat hex = HexFormat.of();
+
+    for (String line : lines) {
+      String entry = line.strip();
+
+      if (entry.isEmpty() || entry.startsWith("#")) {
+        continue;
+      }
+
+      String[] fields = entry.split("\\s+");
+
+      if (fields.length != 2) {
+        throw new IllegalArgumentException("API key entries must be '<client-id> <sha256-hex>'");
+      }
+
+      byte[] digest = hex.parseHex(fields[1]);
+
+      if (digest.length != DIGEST_LENGTH) {
+        throw new IllegalArgumentException("API key digest must be a SHA-256 hex string");
+      }
+
+      index(clients, fields[0], digest);
+    }
+
+    return Map.copyOf(clients);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static void index(Map<Long, Client> clients, String clientId, byte[] digest) {
+    Objects.requireNonNull(clientId, "Client id must not be null");
+
+    Client previous = clients.put(ByteBuffer.wrap(digest).getLong(), new Client(clientId, digest));
+
+    if (previous != null) {
+      throw new IllegalArgumentException("Duplicate API key for client: " + clientId);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static byte[] digest(String apiKey) {
+    Objects.requireNonNull(apiKey, "API key must not be null");
+
+    try {
+      return ((MessageDigest) SHA_256.clone()).digest(apiKey.getBytes(StandardCharsets.UTF_8));
+    } catch (CloneNotSupportedException e) {
+      return newSha256().digest(apiKey.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  // =============================================================================
+
+  private record Client(String clientId, byte[] digest) {
+  }
+
+}
@@ -0,0 +1,194 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public final class HttpApiLatencyMetricsFilter extends OncePerRequestFilter {
+
+  private static final String METRIC_NAME = "http.api.latency";
+  private static final String UNMATCHED_ROUTE = "UNMATCHED";
+  private static final String OVERFLOW_ROUTE = "OTHER";
+  private static final Set<String> KNOWN_METHODS = Set.of(
+      "GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+  private final MeterRegistry registry;
+  private final int maxRoutes;
+  private final Set<String> routes = ConcurrentHashMap.newKeySet();
+  private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+  // =============================================================================
+
+  public HttpApiLatencyMetricsFilter(MeterRegistry registry) {
+    this(registry, 256);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public HttpApiLatencyMetricsFilter(MeterRegistry registry, int maxRoutes) {
+    Objects.requireNonNull(registry, "Meter registry must not be null");
+
+    if (maxRoutes <= 0) {
+      throw new IllegalArgumentException("Maximum number of routes must be positive");
+    }
+
+    this.registry = registry;
+    this.maxRoutes = maxRoutes;
+  }
+
+  // =============================================================================
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+
+    long start = System.nanoTime();
+
+    try {
+      filterChain.doFilter(request, response);
+    } catch (Throwable e) {
+      record(request, responseStatus(response, e), start);
+      throw e;
+    }
+
+    if (isAsyncStarted(request)) {
+      request.getAsyncContext().addListener(new CompletionListener(request, response, start));
+    } else {
+      record(request, response.getStatus(), start);
+    }
+  }
+
+  // =============================================================================
+
+  // A throwing chain unwinds before the container has written its error status
+  static int responseStatus(HttpServletResponse response, Throwable error) {
+    if (response.isCommitted()) {
+      return response.getStatus();
+    }
+
+    Throwable cause = error instanceof ServletException && error.getCause() != null
+        ? error.getCause()
+        : error;
+
+    return cause instanceof ErrorResponse errorResponse
+        ? errorResponse.getStatusCode().value()
+        : HttpStatus.INTERNAL_SERVER_ERROR.value();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void record(HttpServletRequest request, int status, long start) {
+    long elapsed = System.nanoTime() - start;
+    TimerKey key = new TimerKey(route(request), method(request), status);
+    timers.computeIfAbsent(key, this::newTimer).record(elapsed, TimeUnit.NANOSECONDS);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private String route(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+    if (pattern == null) {
+      return UNMATCHED_ROUTE;
+    }
+
+    String route = pattern.toString();
+
+    if (routes.contains(route) || (routes.size() < maxRoutes && routes.add(route))) {
+      return route;
+    }
+
+    return OVERFLOW_ROUTE;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private String method(HttpServletRequest request) {
+    String method = request.getMethod();
+    return KNOWN_METHODS.contains(method) ? method : OVERFLOW_ROUTE;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private Timer newTimer(TimerKey key) {
+    return Timer.builder(METRIC_NAME)
+        .description("Server-side latency of HTTP API requests")
+        .tag("route", key.route())
+        .tag("method", key.method())
+        .tag("status", String.valueOf(key.status()))
+        .publishPercentiles(0.5, 0.99, 0.999)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+  // =============================================================================
+
+  private record TimerKey(String route, String method, int status) {
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private final class CompletionListener implements AsyncListener {
+
+    private final HttpServletRequest request;
+    private final HttpServletResponse response;
+    private final long start;
+
+    // ---------------------------------------------------------------------------
+
+    CompletionListener(HttpServletRequest request, HttpServletResponse response, long start) {
+      this.request = request;
+      this.response = response;
+      this.start = start;
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      record(request, response.getStatus(), start);
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      // Recorded on completion, which follows a timeout
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public void onError(AsyncEvent event) {
+      // Recorded on completion, which follows an error
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+
+  }
+
+}
@@ -0,0 +1,148 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import dev.hireben.demo.common_libs.constant.MessageHeader;
+import dev.hireben.demo.common_libs.http.resolver.HttpAuthorizationClaims;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+public final class HttpRateLimitFilter extends OncePerRequestFilter {
+
+  // Requests without a trusted identity share one bucket so raw credentials never become map keys
+  public static final String UNAUTHENTICATED_KEY = "\0unauthenticated";
+
+  private final Function<HttpServletRequest, String> keyResolver;
+  private final long capacity;
+  private final long refillPerSecond;
+  private final long idleMillis;
+
+  private final long epochNanos = System.nanoTime();
+  private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final AtomicLong nextSweepMillis = new AtomicLong();
+
+  // =============================================================================
+
+  public HttpRateLimitFilter(
+      Function<HttpServletRequest, String> keyResolver,
+      long capacity,
+      long refillPerSecond,
+      Duration idleTimeout) {
+
+    Objects.requireNonNull(keyResolver, "Key resolver must not be null");
+    Objects.requireNonNull(idleTimeout, "Idle timeout must not be null");
+
+    if (capacity <= 0 || capacity > TokenBucket.MAX_CAPACITY) {
+      throw new IllegalArgumentException("Bucket capacity must be between 1 and " + TokenBucket.MAX_CAPACITY);
+    }
+
+    if (refillPerSecond <= 0) {
+      throw new IllegalArgumentException("Refill rate must be positive");
+    }
+
+    this.keyResolver = keyResolver;
+    this.capacity = capacity;
+    this.refillPerSecond = refillPerSecond;
+    this.idleMillis = Math.max(1, idleTimeout.toMillis());
+    this.nextSweepMillis.set(idleMillis);
+  }
+
+  // =============================================================================
+
+  public static Function<HttpServletRequest, String> byApiKey() {
+    return request -> {
+      Object clientId = request.getAttribute(HttpApiKeyFilter.CLIENT_ID_ATTRIBUTE);
+      return clientId == null ? UNAUTHENTICATED_KEY : clientId.toString();
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public static Function<HttpServletRequest, String> byApiKey(HttpApiKeyStore keyStore) {
+    Objects.requireNonNull(keyStore, "API key store must not be null");
+    return request -> {
+      Object clientId = request.getAttribute(HttpApiKeyFilter.CLIENT_ID_ATTRIBUTE);
+      if (clientId != null) {
+        return clientId.toString();
+      }
+      String apiKey = request.getHeader(MessageHeader.API_KEY);
+      String resolved = apiKey == null || apiKey.isBlank() ? null : keyStore.findClientId(apiKey.strip());
+      return resolved == null ? UNAUTHENTICATED_KEY : resolved;
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public static Function<HttpServletRequest, String> byJwtSubject(JwtVerifier verifier) {
+    Objects.requireNonNull(verifier, "Verifier must not be null");
+    return request -> {
+      try {
+        return HttpAuthorizationClaims.verify(request, verifier).getSubject();
+      } catch (RuntimeException e) {
+        // Invalid tokens and an overloaded verifier are throttled together, not let through
+        return UNAUTHENTICATED_KEY;
+      }
+    };
+  }
+
+  // =============================================================================
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+
+    String key = keyResolver.apply(request);
+
+    if (key == null) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+
+    long now = (System.nanoTime() - epochNanos) / 1_000_000;
+    sweepIdleBuckets(now);
+
+    TokenBucket bucket = buckets.get(key);
+
+    if (bucket == null) {
+      bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, now));
+    }
+
+    long waitMillis = bucket.tryAcquire(now, capacity, refillPerSecond);
+
+    if (waitMillis > 0) {
+      response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.ceilDiv(waitMillis, 1000)));
+      response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests");
+      return;
+    }
+
+    filterChain.doFilter(request, response);
+  }
+
+  // =============================================================================
+
+  private void sweepIdleBuckets(long now) {
+    long due = nextSweepMillis.get();
+
+    if (now < due || !nextSweepMillis.compareAndSet(due, now + idleMillis)) {
+      return;
+    }
+
+    buckets.values().removeIf(bucket -> bucket.isIdle(now, capacity, refillPerSecond, idleMillis));
+  }
+
+}
@@ -0,0 +1,101 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import reactor.core.publisher.Mono;
+
+public final class ReactiveHttpApiAccessLogFilter implements WebFilter, AutoCloseable {
+
+  private final Log logger = LogFactory.getLog(getClass());
+  private final AccessLogDrainer drainer;
+
+  // =============================================================================
+
+  public ReactiveHttpApiAccessLogFilter() {
+    drainer = null;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public ReactiveHttpApiAccessLogFilter(int bufferCapacity) {
+    drainer = new AccessLogDrainer(logger, bufferCapacity);
+  }
+
+  // =============================================================================
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (!logger.isInfoEnabled()) {
+      return chain.filter(exchange);
+    }
+
+    ServerHttpRequest request = exchange.getRequest();
+    String requestId = request.getId();
+
+    if (drainer != null) {
+      drainer.received(requestId, request.getMethod().name(), request.getPath().value(), null);
+    } else {
+      logger.info("[id: " + requestId + "] received " + request.getMethod().name() + " "
+          + request.getPath().value());
+    }
+
+    long start = System.currentTimeMillis();
+    ServerHttpResponse response = exchange.getResponse();
+
+    return chain.filter(exchange)
+        .doOnSuccess(ignored -> responded(requestId, start, responseStatus(response, null)))
+        .doOnError(error -> responded(requestId, start, responseStatus(response, error)))
+        .doOnCancel(() -> responded(requestId, start, responseStatus(response, null)));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void close() {
+    if (drainer != null) {
+      drainer.close();
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public long getDroppedCount() {
+    return drainer != null ? drainer.droppedCount() : 0;
+  }
+
+  // =============================================================================
+
+  // An erroring chain finishes before any WebExceptionHandler has set the status
+  static int responseStatus(ServerHttpResponse response, Throwable error) {
+    if (error != null && !response.isCommitted()) {
+      return error instanceof ErrorResponse errorResponse
+          ? errorResponse.getStatusCode().value()
+          : HttpStatus.INTERNAL_SERVER_ERROR.value();
+    }
+
+    HttpStatusCode status = response.getStatusCode();
+    return status != null ? status.value() : HttpStatus.OK.value();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void responded(String requestId, long start, int statusCode) {
+    long elapsed = System.currentTimeMillis() - start;
+
+    if (drainer != null) {
+      drainer.responded(requestId, statusCode, elapsed);
+    } else {
+      logger.info("[id: " + requestId + "] responded " + statusCode + " in " + elapsed + "ms");
+    }
+  }
+
+}
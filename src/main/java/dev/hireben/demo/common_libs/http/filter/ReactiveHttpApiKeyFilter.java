@@ -0,0 +1,57 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import dev.hireben.demo.common_libs.constant.MessageHeader;
+import reactor.core.publisher.Mono;
+
+public final class ReactiveHttpApiKeyFilter implements WebFilter {
+
+  public static final String CLIENT_ID_ATTRIBUTE = ReactiveHttpApiKeyFilter.class.getName() + ".CLIENT_ID";
+
+  private static final String DEFAULT_CLIENT_ID = "default";
+
+  private final HttpApiKeyStore keyStore;
+
+  // =============================================================================
+
+  public ReactiveHttpApiKeyFilter(String expectedApiKey) {
+    this(HttpApiKeyStore.of(Map.of(DEFAULT_CLIENT_ID,
+        Objects.requireNonNull(expectedApiKey, "Expected API key must not be null"))));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public ReactiveHttpApiKeyFilter(HttpApiKeyStore keyStore) {
+    this.keyStore = Objects.requireNonNull(keyStore, "API key store must not be null");
+  }
+
+  // =============================================================================
+
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    String reqApiKey = exchange.getRequest().getHeaders().getFirst(MessageHeader.API_KEY);
+
+    if (reqApiKey == null || reqApiKey.isBlank()) {
+      return Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing API key"));
+    }
+
+    String clientId = keyStore.findClientId(reqApiKey.strip());
+
+    if (clientId == null) {
+      return Mono.error(new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid API key"));
+    }
+
+    exchange.getAttributes().put(CLIENT_ID_ATTRIBUTE, clientId);
+
+    return chain.filter(exchange);
+  }
+
+}
@@ -0,0 +1,70 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+final class TokenBucket {
+
+  static final long TOKEN_UNIT = 1000;
+  static final long MAX_CAPACITY = ((1L << 24) - 1) / TOKEN_UNIT;
+
+  private static final int TOKEN_BITS = 24;
+  private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+  // Upper 40 bits: last refill in millis since the filter started, lower 24 bits: milli-tokens
+  private final AtomicLong state;
+
+  // =============================================================================
+
+  TokenBucket(long capacity, long nowMillis) {
+    state = new AtomicLong(pack(nowMillis, capacity * TOKEN_UNIT));
+  }
+
+  // =============================================================================
+
+  long tryAcquire(long nowMillis, long capacity, long refillPerSecond) {
+    while (true) {
+      long current = state.get();
+      long lastRefill = current >>> TOKEN_BITS;
+      long available = available(current, nowMillis, capacity, refillPerSecond);
+
+      if (available < TOKEN_UNIT) {
+        return Math.ceilDiv(TOKEN_UNIT - available, refillPerSecond);
+      }
+
+      long next = pack(Math.max(lastRefill, nowMillis), available - TOKEN_UNIT);
+
+      if (state.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  boolean isIdle(long nowMillis, long capacity, long refillPerSecond, long idleMillis) {
+    long current = state.get();
+    return nowMillis - (current >>> TOKEN_BITS) >= idleMillis
+        && available(current, nowMillis, capacity, refillPerSecond) == capacity * TOKEN_UNIT;
+  }
+
+  // =============================================================================
+
+  private static long available(long state, long nowMillis, long capacity, long refillPerSecond) {
+    long maximum = capacity * TOKEN_UNIT;
+    long elapsed = Math.max(0, nowMillis - (state >>> TOKEN_BITS));
+
+    // One milli-token per millisecond for every token per second of refill rate
+    if (elapsed >= Math.ceilDiv(maximum, refillPerSecond)) {
+      return maximum;
+    }
+
+    return Math.min(maximum, (state & TOKEN_MASK) + elapsed * refillPerSecond);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static long pack(long millis, long milliTokens) {
+    return millis << TOKEN_BITS | milliTokens;
+  }
+
+}
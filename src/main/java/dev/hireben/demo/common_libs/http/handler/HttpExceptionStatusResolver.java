@@ -0,0 +1,59 @@
+package dev.hireben.demo.common_libs.http.handler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+import dev.hireben.demo.common_libs.exception.InsufficientPermissionException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenRevokedException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenVerificationBusyException;
+
+final class HttpExceptionStatusResolver {
+
+  static final Map<Class<? extends Throwable>, HttpStatus> DEFAULT_STATUSES = Map.of(
+      InsufficientPermissionException.class, HttpStatus.FORBIDDEN,
+      TokenMalformedException.class, HttpStatus.UNAUTHORIZED,
+      TokenRevokedException.class, HttpStatus.UNAUTHORIZED,
+      TokenIssuanceFailException.class, HttpStatus.BAD_REQUEST,
+      TokenVerificationBusyException.class, HttpStatus.SERVICE_UNAVAILABLE);
+
+  private final Map<Class<? extends Throwable>, HttpStatus> statuses;
+  private final ClassValue<HttpStatus> resolved = new ClassValue<>() {
+
+    @Override
+    protected HttpStatus computeValue(Class<?> type) {
+      for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+        HttpStatus status = statuses.get(current);
+        if (status != null) {
+          return status;
+        }
+      }
+      return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+  };
+
+  // =============================================================================
+
+  HttpExceptionStatusResolver(Map<Class<? extends Throwable>, HttpStatus> statuses) {
+    this.statuses = Map.copyOf(statuses);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static HttpExceptionStatusResolver withDefaults(Map<Class<? extends Throwable>, HttpStatus> overrides) {
+    Map<Class<? extends Throwable>, HttpStatus> statuses = new HashMap<>(DEFAULT_STATUSES);
+    statuses.putAll(overrides);
+    return new HttpExceptionStatusResolver(statuses);
+  }
+
+  // =============================================================================
+
+  HttpStatus resolve(Throwable ex) {
+    return resolved.get(ex.getClass());
+  }
+
+}
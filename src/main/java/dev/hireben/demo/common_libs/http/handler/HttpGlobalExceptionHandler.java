@@ -20,28 +20,37 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import dev.hireben.demo.common_libs.exception.ApplicationException;
-import dev.hireben.demo.common_libs.exception.InsufficientPermissionException;
 import dev.hireben.demo.common_libs.http.dto.HttpFieldValidationErrorMap;
-import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
-import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
 import io.jsonwebtoken.ClaimJwtException;
 import io.micrometer.tracing.TraceContext;
 import io.micrometer.tracing.Tracer;
 import jakarta.validation.ConstraintViolationException;
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class HttpGlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
   private final Tracer tracer;
+  private final HttpExceptionStatusResolver statusResolver;
 
   // =============================================================================
 
+  // Subclasses may still register statuses here; they are read when the handler is constructed
   protected static final Map<Class<? extends Throwable>, HttpStatus> exceptionStatusMap = new HashMap<>(
-      Map.of(InsufficientPermissionException.class, HttpStatus.FORBIDDEN,
-          TokenMalformedException.class, HttpStatus.UNAUTHORIZED,
-          TokenIssuanceFailException.class, HttpStatus.BAD_REQUEST));
+      HttpExceptionStatusResolver.DEFAULT_STATUSES);
+
+  // =============================================================================
+
+  protected HttpGlobalExceptionHandler(Tracer tracer) {
+    this(tracer, Map.of());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  protected HttpGlobalExceptionHandler(Tracer tracer, Map<Class<? extends Throwable>, HttpStatus> exceptionStatuses) {
+    this.tracer = tracer;
+    Map<Class<? extends Throwable>, HttpStatus> statuses = new HashMap<>(exceptionStatusMap);
+    statuses.putAll(exceptionStatuses);
+    this.statusResolver = new HttpExceptionStatusResolver(statuses);
+  }
 
   // =============================================================================
 
@@ -91,9 +100,9 @@ public abstract class HttpGlobalExceptionHandler extends ResponseEntityException
       ConstraintViolationException ex,
       WebRequest request) {
 
-    HttpStatus status = HttpStatus.BAD_REQUEST;
+    HttpStatus status = HttpProblemTemplate.VALIDATION_FAILED.status();
 
-    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, "Validation failed");
+    ProblemDetail problemDetail = HttpProblemTemplate.VALIDATION_FAILED.instantiate();
 
     Collection<HttpFieldValidationErrorMap> errors = ex.getConstraintViolations().stream()
         .map(error -> HttpFieldValidationErrorMap.builder()
@@ -116,7 +125,7 @@ public abstract class HttpGlobalExceptionHandler extends ResponseEntityException
 
     HttpStatus status = HttpStatus.BAD_REQUEST;
 
-    String message = String.format("Invalid parameter value: %s", ex.getName());
+    String message = "Invalid parameter value: " + ex.getName();
 
     ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, message);
 
@@ -132,7 +141,7 @@ public abstract class HttpGlobalExceptionHandler extends ResponseEntityException
 
     HttpStatus status = HttpStatus.BAD_REQUEST;
 
-    String message = String.format("Missing HTTP header: %s", ex.getHeaderName());
+    String message = "Missing HTTP header: " + ex.getHeaderName();
 
     ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, message);
 
@@ -146,9 +155,9 @@ public abstract class HttpGlobalExceptionHandler extends ResponseEntityException
       SocketTimeoutException ex,
       WebRequest request) {
 
-    HttpStatus status = HttpStatus.GATEWAY_TIMEOUT;
+    HttpStatus status = HttpProblemTemplate.GATEWAY_TIMEOUT.status();
 
-    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, "Gateway timed out");
+    ProblemDetail problemDetail = HttpProblemTemplate.GATEWAY_TIMEOUT.instantiate();
 
     return createResponseEntity(problemDetail, HttpHeaders.EMPTY, status, request);
   }
@@ -174,7 +183,7 @@ public abstract class HttpGlobalExceptionHandler extends ResponseEntityException
       ApplicationException ex,
       WebRequest request) {
 
-    HttpStatus status = exceptionStatusMap.getOrDefault(ex.getClass(), HttpStatus.INTERNAL_SERVER_ERROR);
+    HttpStatus status = statusResolver.resolve(ex);
 
     ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, ex.getMessage());
 
@@ -188,10 +197,9 @@ public abstract class HttpGlobalExceptionHandler extends ResponseEntityException
       Exception ex,
       WebRequest request) {
 
-    HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
+    HttpStatus status = HttpProblemTemplate.UNHANDLED_ERROR.status();
 
-    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status,
-        "An unhandled error occured at the server side");
+    ProblemDetail problemDetail = HttpProblemTemplate.UNHANDLED_ERROR.instantiate();
 
     logger.error("Unhandled exception caught", ex);
 
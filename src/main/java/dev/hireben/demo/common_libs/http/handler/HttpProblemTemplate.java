@@ -0,0 +1,49 @@
+package dev.hireben.demo.common_libs.http.handler;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+final class HttpProblemTemplate {
+
+  static final HttpProblemTemplate VALIDATION_FAILED = new HttpProblemTemplate(HttpStatus.BAD_REQUEST,
+      "Validation failed");
+  static final HttpProblemTemplate GATEWAY_TIMEOUT = new HttpProblemTemplate(HttpStatus.GATEWAY_TIMEOUT,
+      "Gateway timed out");
+  static final HttpProblemTemplate UNHANDLED_ERROR = new HttpProblemTemplate(HttpStatus.INTERNAL_SERVER_ERROR,
+      "An unhandled error occured at the server side");
+
+  private final HttpStatus status;
+  private final ProblemDetail template;
+
+  // =============================================================================
+
+  private HttpProblemTemplate(HttpStatus status, String detail) {
+    this.status = status;
+    this.template = ProblemDetail.forStatusAndDetail(status, detail);
+    this.template.setTitle(status.getReasonPhrase());
+  }
+
+  // =============================================================================
+
+  HttpStatus status() {
+    return status;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  // Handlers add per-request fields, so every caller gets its own copy of the template
+  ProblemDetail instantiate() {
+    return new ProblemDetailCopy(template);
+  }
+
+  // =============================================================================
+
+  private static final class ProblemDetailCopy extends ProblemDetail {
+
+    private ProblemDetailCopy(ProblemDetail template) {
+      super(template);
+    }
+
+  }
+
+}
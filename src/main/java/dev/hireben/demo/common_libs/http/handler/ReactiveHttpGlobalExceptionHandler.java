@@ -0,0 +1,220 @@
+package dev.hireben.demo.common_libs.http.handler;
+
+import java.net.SocketTimeoutException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import dev.hireben.demo.common_libs.exception.ApplicationException;
+import dev.hireben.demo.common_libs.http.dto.HttpFieldValidationErrorMap;
+import io.jsonwebtoken.ClaimJwtException;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import jakarta.validation.ConstraintViolationException;
+import reactor.core.publisher.Mono;
+
+public abstract class ReactiveHttpGlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+  private final Tracer tracer;
+  private final HttpExceptionStatusResolver statusResolver;
+
+  // =============================================================================
+
+  protected ReactiveHttpGlobalExceptionHandler(Tracer tracer) {
+    this(tracer, Map.of());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  protected ReactiveHttpGlobalExceptionHandler(Tracer tracer,
+      Map<Class<? extends Throwable>, HttpStatus> exceptionStatuses) {
+    this.tracer = tracer;
+    this.statusResolver = HttpExceptionStatusResolver.withDefaults(exceptionStatuses);
+  }
+
+  // =============================================================================
+
+  @Override
+  protected final Mono<ResponseEntity<Object>> createResponseEntity(
+      Object body,
+      HttpHeaders headers,
+      HttpStatusCode statusCode,
+      ServerWebExchange exchange) {
+
+    if (body instanceof ProblemDetail problemDetail) {
+      problemDetail.setProperty("timestamp", Instant.now());
+      TraceContext context = tracer.currentTraceContext().context();
+      problemDetail.setProperty("trace", context != null ? context.traceId() : "");
+    }
+
+    return super.createResponseEntity(body, headers, statusCode, exchange);
+  }
+
+  // =============================================================================
+
+  @Override
+  protected final Mono<ResponseEntity<Object>> handleWebExchangeBindException(
+      WebExchangeBindException ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+
+    ProblemDetail problemDetail = ex.updateAndGetBody(getMessageSource(), getLocale(exchange));
+
+    Collection<HttpFieldValidationErrorMap> errors = ex.getBindingResult().getAllErrors().stream()
+        .map(error -> HttpFieldValidationErrorMap.builder()
+            .field(((FieldError) error).getField())
+            .message(error.getDefaultMessage())
+            .build())
+        .toList();
+
+    problemDetail.setProperty("errors", errors);
+
+    return createResponseEntity(problemDetail, headers, status, exchange);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  protected final Mono<ResponseEntity<Object>> handleMissingRequestValueException(
+      MissingRequestValueException ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+
+    String message = "header".equals(ex.getLabel())
+        ? "Missing HTTP header: " + ex.getName()
+        : "Missing request " + ex.getLabel() + ": " + ex.getName();
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, message);
+
+    return createResponseEntity(problemDetail, headers, status, exchange);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  protected final Mono<ResponseEntity<Object>> handleServerWebInputException(
+      ServerWebInputException ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+
+    MethodParameter parameter = ex.getMethodParameter();
+
+    if (!(ex.getCause() instanceof TypeMismatchException) || parameter == null) {
+      return super.handleServerWebInputException(ex, headers, status, exchange);
+    }
+
+    String message = "Invalid parameter value: " + parameter.getParameterName();
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, message);
+
+    return createResponseEntity(problemDetail, headers, status, exchange);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ExceptionHandler(ConstraintViolationException.class)
+  private Mono<ResponseEntity<Object>> handleConstraintViolation(
+      ConstraintViolationException ex,
+      ServerWebExchange exchange) {
+
+    HttpStatus status = HttpProblemTemplate.VALIDATION_FAILED.status();
+
+    ProblemDetail problemDetail = HttpProblemTemplate.VALIDATION_FAILED.instantiate();
+
+    Collection<HttpFieldValidationErrorMap> errors = ex.getConstraintViolations().stream()
+        .map(error -> HttpFieldValidationErrorMap.builder()
+            .field(error.getPropertyPath().toString())
+            .message(error.getMessage())
+            .build())
+        .toList();
+
+    problemDetail.setProperty("errors", errors);
+
+    return createResponseEntity(problemDetail, HttpHeaders.EMPTY, status, exchange);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ExceptionHandler(SocketTimeoutException.class)
+  private Mono<ResponseEntity<Object>> handleSocketTimeout(
+      SocketTimeoutException ex,
+      ServerWebExchange exchange) {
+
+    HttpStatus status = HttpProblemTemplate.GATEWAY_TIMEOUT.status();
+
+    ProblemDetail problemDetail = HttpProblemTemplate.GATEWAY_TIMEOUT.instantiate();
+
+    return createResponseEntity(problemDetail, HttpHeaders.EMPTY, status, exchange);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ExceptionHandler(ClaimJwtException.class)
+  private Mono<ResponseEntity<Object>> handleJwtVerificationFailure(
+      ClaimJwtException ex,
+      ServerWebExchange exchange) {
+
+    HttpStatus status = HttpStatus.UNAUTHORIZED;
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, ex.getMessage());
+
+    return createResponseEntity(problemDetail, HttpHeaders.EMPTY, status, exchange);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ExceptionHandler(ApplicationException.class)
+  private Mono<ResponseEntity<Object>> handleApplicationException(
+      ApplicationException ex,
+      ServerWebExchange exchange) {
+
+    HttpStatus status = statusResolver.resolve(ex);
+
+    ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, ex.getMessage());
+
+    return createResponseEntity(problemDetail, HttpHeaders.EMPTY, status, exchange);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ExceptionHandler(Exception.class)
+  Mono<ResponseEntity<Object>> catchAllException(
+      Exception ex,
+      ServerWebExchange exchange) {
+
+    HttpStatus status = HttpProblemTemplate.UNHANDLED_ERROR.status();
+
+    ProblemDetail problemDetail = HttpProblemTemplate.UNHANDLED_ERROR.instantiate();
+
+    logger.error("Unhandled exception caught", ex);
+
+    return createResponseEntity(problemDetail, HttpHeaders.EMPTY, status, exchange);
+  }
+
+  // =============================================================================
+
+  private static Locale getLocale(ServerWebExchange exchange) {
+    Locale locale = exchange.getLocaleContext().getLocale();
+    return locale != null ? locale : Locale.getDefault();
+  }
+
+}
@@ -0,0 +1,87 @@
+package dev.hireben.demo.common_libs.http.resolver;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import dev.hireben.demo.common_libs.constant.MessageHeader;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class HttpAuthorizationClaims {
+
+  private final String ATTRIBUTE = HttpAuthorizationClaims.class.getName() + ".VERIFIED_CLAIMS";
+
+  // =============================================================================
+
+  // Only claims produced by the given verifier count, so a weaker verifier elsewhere cannot vouch for a token
+  public Optional<Claims> getVerifiedClaims(JwtVerifier verifier) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes instanceof ServletRequestAttributes servletAttributes
+        ? getVerifiedClaims(servletAttributes.getRequest(), verifier)
+        : Optional.empty();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public Optional<Claims> getVerifiedClaims(HttpServletRequest request, JwtVerifier verifier) {
+    Objects.requireNonNull(verifier, "Verifier must not be null");
+    return Optional.ofNullable(
+        lookup(request.getAttribute(ATTRIBUTE), request.getHeader(MessageHeader.AUTHORIZATION), verifier));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public Claims verify(HttpServletRequest request, JwtVerifier verifier) {
+    String header = request.getHeader(MessageHeader.AUTHORIZATION);
+
+    if (header == null || header.isBlank()) {
+      throw new TokenMalformedException("Token is missing", false);
+    }
+
+    Claims claims = lookup(request.getAttribute(ATTRIBUTE), header, verifier);
+
+    if (claims == null) {
+      claims = HttpBearerTokens.verify(header, verifier);
+      request.setAttribute(ATTRIBUTE, new VerifiedClaims(header, verifier, claims));
+    }
+
+    return claims;
+  }
+
+  // =============================================================================
+
+  Claims verify(RequestAttributes attributes, String header, JwtVerifier verifier) {
+    Claims claims = lookup(attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST), header, verifier);
+
+    if (claims == null) {
+      claims = HttpBearerTokens.verify(header, verifier);
+      attributes.setAttribute(ATTRIBUTE, new VerifiedClaims(header, verifier, claims), RequestAttributes.SCOPE_REQUEST);
+    }
+
+    return claims;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private Claims lookup(Object attribute, String header, JwtVerifier verifier) {
+    return attribute instanceof VerifiedClaims verified
+        && verified.verifier() == verifier
+        && verified.header().equals(header)
+            ? verified.claims()
+            : null;
+  }
+
+  // =============================================================================
+
+  private record VerifiedClaims(String header, JwtVerifier verifier, Claims claims) {
+  }
+
+}
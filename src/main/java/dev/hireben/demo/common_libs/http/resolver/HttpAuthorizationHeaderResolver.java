@@ -10,7 +10,6 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import dev.hireben.demo.common_libs.constant.MessageHeader;
 import dev.hireben.demo.common_libs.http.annotation.HttpAuthorizationHeader;
 import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
-import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 
@@ -42,14 +41,7 @@ public final class HttpAuthorizationHeaderResolver implements HandlerMethodArgum
       throw new MissingRequestHeaderException(MessageHeader.AUTHORIZATION, parameter);
     }
 
-    Claims claims = verifier.verifyToken(header.substring("Bearer ".length()));
-    String principalId = claims.getSubject();
-
-    if (principalId == null || principalId.isBlank() || !principalId.matches("^\\d+$")) {
-      throw new TokenMalformedException("Token is malformed");
-    }
-
-    return claims;
+    return HttpAuthorizationClaims.verify(webRequest, header, verifier);
   }
 
 }
@@ -0,0 +1,96 @@
+package dev.hireben.demo.common_libs.http.resolver;
+
+import dev.hireben.demo.common_libs.jwt.CompactTokens;
+import dev.hireben.demo.common_libs.jwt.api.JwtRejectionReason;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenRevokedException;
+import io.jsonwebtoken.Claims;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class HttpBearerTokens {
+
+  private final String SCHEME = "Bearer";
+
+  // =============================================================================
+
+  String extractToken(String header) {
+    int start = 0;
+    int end = header.length();
+
+    while (start < end && isWhitespace(header.charAt(start))) {
+      start++;
+    }
+
+    while (end > start && isWhitespace(header.charAt(end - 1))) {
+      end--;
+    }
+
+    if (!header.regionMatches(true, start, SCHEME, 0, SCHEME.length())) {
+      return null;
+    }
+
+    int tokenStart = start + SCHEME.length();
+
+    if (tokenStart >= end || !isWhitespace(header.charAt(tokenStart))) {
+      return null;
+    }
+
+    while (isWhitespace(header.charAt(tokenStart))) {
+      tokenStart++;
+    }
+
+    return CompactTokens.isWellFormed(header, tokenStart, end) ? header.substring(tokenStart, end) : null;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  Claims verify(String header, JwtVerifier verifier) {
+    String token = extractToken(header);
+
+    if (token == null) {
+      throw new TokenMalformedException("Token is malformed", false);
+    }
+
+    Claims claims = switch (verifier.verify(token)) {
+      case JwtVerification.Verified(Claims verified) -> verified;
+      case JwtVerification.Rejected(JwtRejectionReason reason, String message)
+          when reason == JwtRejectionReason.REVOKED ->
+        throw new TokenRevokedException(message, false);
+      case JwtVerification.Rejected(JwtRejectionReason reason, String message) ->
+        throw new TokenMalformedException(message, false);
+    };
+
+    if (!isNumeric(claims.getSubject())) {
+      throw new TokenMalformedException("Token is malformed", false);
+    }
+
+    return claims;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  boolean isNumeric(String value) {
+    if (value == null || value.isEmpty()) {
+      return false;
+    }
+
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // =============================================================================
+
+  private boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t';
+  }
+
+}
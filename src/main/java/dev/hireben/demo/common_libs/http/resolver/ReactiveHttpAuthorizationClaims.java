@@ -0,0 +1,71 @@
+package dev.hireben.demo.common_libs.http.resolver;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.web.server.ServerWebExchange;
+
+import dev.hireben.demo.common_libs.constant.MessageHeader;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import io.jsonwebtoken.Claims;
+import lombok.experimental.UtilityClass;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@UtilityClass
+public class ReactiveHttpAuthorizationClaims {
+
+  private final String ATTRIBUTE = ReactiveHttpAuthorizationClaims.class.getName() + ".VERIFIED_CLAIMS";
+
+  // =============================================================================
+
+  // Only claims produced by the given verifier count, so a weaker verifier elsewhere cannot vouch for a token
+  public Optional<Claims> getVerifiedClaims(ServerWebExchange exchange, JwtVerifier verifier) {
+    Objects.requireNonNull(verifier, "Verifier must not be null");
+    return Optional.ofNullable(lookup(exchange.getAttribute(ATTRIBUTE),
+        exchange.getRequest().getHeaders().getFirst(MessageHeader.AUTHORIZATION), verifier));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public Mono<Claims> verify(ServerWebExchange exchange, JwtVerifier verifier, Scheduler scheduler) {
+    String header = exchange.getRequest().getHeaders().getFirst(MessageHeader.AUTHORIZATION);
+
+    if (header == null || header.isBlank()) {
+      return Mono.error(new TokenMalformedException("Token is missing", false));
+    }
+
+    return verify(exchange, header, verifier, scheduler);
+  }
+
+  // =============================================================================
+
+  Mono<Claims> verify(ServerWebExchange exchange, String header, JwtVerifier verifier, Scheduler scheduler) {
+    Claims claims = lookup(exchange.getAttribute(ATTRIBUTE), header, verifier);
+
+    if (claims != null) {
+      return Mono.just(claims);
+    }
+
+    return Mono.fromCallable(() -> HttpBearerTokens.verify(header, verifier))
+        .subscribeOn(scheduler)
+        .doOnNext(verified -> exchange.getAttributes().put(ATTRIBUTE, new VerifiedClaims(header, verifier, verified)));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private Claims lookup(Object attribute, String header, JwtVerifier verifier) {
+    return attribute instanceof VerifiedClaims verified
+        && verified.verifier() == verifier
+        && verified.header().equals(header)
+            ? verified.claims()
+            : null;
+  }
+
+  // =============================================================================
+
+  private record VerifiedClaims(String header, JwtVerifier verifier, Claims claims) {
+  }
+
+}
@@ -0,0 +1,63 @@
+package dev.hireben.demo.common_libs.http.resolver;
+
+import java.util.Objects;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ServerWebExchange;
+
+import dev.hireben.demo.common_libs.constant.MessageHeader;
+import dev.hireben.demo.common_libs.http.annotation.HttpAuthorizationHeader;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+public final class ReactiveHttpAuthorizationHeaderResolver implements HandlerMethodArgumentResolver {
+
+  private final JwtVerifier verifier;
+  private final Scheduler scheduler;
+
+  // =============================================================================
+
+  public ReactiveHttpAuthorizationHeaderResolver(JwtVerifier verifier) {
+    this(verifier, Schedulers.parallel());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public ReactiveHttpAuthorizationHeaderResolver(JwtVerifier verifier, Scheduler scheduler) {
+    this.verifier = Objects.requireNonNull(verifier, "JWT verifier must not be null");
+    this.scheduler = Objects.requireNonNull(scheduler, "Scheduler must not be null");
+  }
+
+  // =============================================================================
+
+  @Override
+  public boolean supportsParameter(MethodParameter parameter) {
+    return parameter.getParameterType().equals(Claims.class)
+        && parameter.hasParameterAnnotation(HttpAuthorizationHeader.class);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public Mono<Object> resolveArgument(
+      MethodParameter parameter,
+      BindingContext bindingContext,
+      ServerWebExchange exchange) {
+
+    String header = exchange.getRequest().getHeaders().getFirst(MessageHeader.AUTHORIZATION);
+
+    if (header == null || header.isBlank()) {
+      return Mono.error(new MissingRequestValueException(MessageHeader.AUTHORIZATION, Claims.class, "header",
+          parameter));
+    }
+
+    return ReactiveHttpAuthorizationClaims.verify(exchange, header, verifier, scheduler).cast(Object.class);
+  }
+
+}
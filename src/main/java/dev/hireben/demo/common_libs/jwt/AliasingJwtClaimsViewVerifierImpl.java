@@ -0,0 +1,143 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import dev.hireben.demo.common_libs.constant.AuthClaimKey;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimDictionary;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsView;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsViewVerifier;
+
+final class AliasingJwtClaimsViewVerifierImpl implements JwtClaimsViewVerifier {
+
+  private final JwtClaimsViewVerifier delegate;
+  private final ClaimAliases aliases;
+
+  // =============================================================================
+
+  AliasingJwtClaimsViewVerifierImpl(JwtClaimsViewVerifier delegate, JwtClaimDictionary dictionary) {
+    this.delegate = Objects.requireNonNull(delegate, "Delegate verifier must not be null");
+    this.aliases = new ClaimAliases(dictionary);
+  }
+
+  // =============================================================================
+
+  @Override
+  public JwtClaimsView verifyClaimsView(String token) {
+    return new AliasedClaimsView(delegate.verifyClaimsView(token));
+  }
+
+  // =============================================================================
+
+  // Translates names on access, so unread claims are never decoded
+  private final class AliasedClaimsView implements JwtClaimsView {
+
+    private final JwtClaimsView claims;
+
+    // ---------------------------------------------------------------------------
+
+    AliasedClaimsView(JwtClaimsView claims) {
+      this.claims = claims;
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public String getIssuer() {
+      return claims.getIssuer();
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public String getSubject() {
+      return claims.getSubject();
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public List<String> getAudience() {
+      return claims.getAudience();
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public String getId() {
+      return claims.getId();
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public Instant getIssuedAt() {
+      return claims.getIssuedAt();
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public Instant getNotBefore() {
+      return claims.getNotBefore();
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public Instant getExpiration() {
+      return claims.getExpiration();
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public List<String> getGroups() {
+      Long mask = claims.getLong(aliases.groupMaskClaim());
+      List<String> extra = claims.getStringList(mask != null ? aliases.groupClaim() : name(AuthClaimKey.GROUP));
+      return mask != null ? aliases.groups(mask, extra) : extra;
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public boolean containsKey(String name) {
+      if (AuthClaimKey.GROUP.equals(name)) {
+        return claims.containsKey(aliases.groupMaskClaim()) || claims.containsKey(name(name));
+      }
+      return claims.containsKey(name(name));
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public String getString(String name) {
+      return claims.getString(name(name));
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public Long getLong(String name) {
+      return claims.getLong(name(name));
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public List<String> getStringList(String name) {
+      return AuthClaimKey.GROUP.equals(name) ? getGroups() : claims.getStringList(name(name));
+    }
+
+    // ---------------------------------------------------------------------------
+
+    // Plain tokens pass through the verifier unchanged, so fall back to the original name
+    private String name(String original) {
+      String alias = aliases.alias(original);
+      return alias.equals(original) || claims.containsKey(alias) ? alias : original;
+    }
+
+  }
+
+}
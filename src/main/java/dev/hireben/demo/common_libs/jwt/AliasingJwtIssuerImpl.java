@@ -0,0 +1,68 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Instant;
+import java.time.temporal.TemporalAmount;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimDictionary;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtTokenSpec;
+
+final class AliasingJwtIssuerImpl implements JwtIssuer {
+
+  private final JwtIssuer delegate;
+  private final ClaimAliases aliases;
+
+  // =============================================================================
+
+  AliasingJwtIssuerImpl(JwtIssuer delegate, JwtClaimDictionary dictionary) {
+    this.delegate = Objects.requireNonNull(delegate, "Delegate issuer must not be null");
+    this.aliases = new ClaimAliases(dictionary);
+  }
+
+  // =============================================================================
+
+  @Override
+  public String issueToken(
+      String subject,
+      Collection<String> audiences,
+      Map<String, Object> claims,
+      TemporalAmount ttl,
+      Instant nbf) {
+
+    return delegate.issueToken(subject, audiences, aliases.compact(claims), ttl, nbf);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs) {
+    return delegate.issueTokens(compact(specs));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs, Executor executor) {
+    return delegate.issueTokens(compact(specs), executor);
+  }
+
+  // =============================================================================
+
+  private List<JwtTokenSpec> compact(List<JwtTokenSpec> specs) {
+    return specs.stream()
+        .map(spec -> JwtTokenSpec.builder()
+            .subject(spec.getSubject())
+            .audiences(spec.getAudiences())
+            .claims(aliases.compact(spec.getClaims()))
+            .ttl(spec.getTtl())
+            .nbf(spec.getNbf())
+            .build())
+        .toList();
+  }
+
+}
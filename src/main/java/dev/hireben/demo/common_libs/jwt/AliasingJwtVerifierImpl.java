@@ -0,0 +1,49 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.util.Objects;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimDictionary;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+final class AliasingJwtVerifierImpl implements JwtVerifier {
+
+  private final JwtVerifier delegate;
+  private final ClaimAliases aliases;
+
+  // =============================================================================
+
+  AliasingJwtVerifierImpl(JwtVerifier delegate, JwtClaimDictionary dictionary) {
+    this.delegate = Objects.requireNonNull(delegate, "Delegate verifier must not be null");
+    this.aliases = new ClaimAliases(dictionary);
+  }
+
+  // =============================================================================
+
+  @Override
+  public Claims verifyToken(String token) {
+    return expand(delegate.verifyToken(token));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public JwtVerification verify(String token) {
+    JwtVerification verification = delegate.verify(token);
+
+    if (verification instanceof JwtVerification.Verified(Claims claims)) {
+      return new JwtVerification.Verified(expand(claims));
+    }
+
+    return verification;
+  }
+
+  // =============================================================================
+
+  private Claims expand(Claims claims) {
+    return Jwts.claims().add(aliases.expand(claims)).build();
+  }
+
+}
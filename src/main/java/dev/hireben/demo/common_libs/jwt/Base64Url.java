@@ -0,0 +1,108 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class Base64Url {
+
+  private final byte[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+      .getBytes(StandardCharsets.US_ASCII);
+  private final byte[] DECODING = decodingTable();
+
+  // =============================================================================
+
+  int encodedLength(int length) {
+    int remainder = length % 3;
+    return (length / 3) * 4 + (remainder == 0 ? 0 : remainder + 1);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  int encode(byte[] src, int offset, int length, byte[] dst, int position) {
+    int end = offset + length;
+    int i = offset;
+
+    while (i + 2 < end) {
+      int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+      dst[position++] = ALPHABET[bits >>> 18];
+      dst[position++] = ALPHABET[(bits >>> 12) & 0x3f];
+      dst[position++] = ALPHABET[(bits >>> 6) & 0x3f];
+      dst[position++] = ALPHABET[bits & 0x3f];
+      i += 3;
+    }
+
+    if (end - i == 1) {
+      int bits = (src[i] & 0xff) << 16;
+      dst[position++] = ALPHABET[bits >>> 18];
+      dst[position++] = ALPHABET[(bits >>> 12) & 0x3f];
+    } else if (end - i == 2) {
+      int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+      dst[position++] = ALPHABET[bits >>> 18];
+      dst[position++] = ALPHABET[(bits >>> 12) & 0x3f];
+      dst[position++] = ALPHABET[(bits >>> 6) & 0x3f];
+    }
+
+    return position;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  int decodedLength(int length) {
+    int remainder = length % 4;
+    return remainder == 1 ? -1 : (length / 4) * 3 + (remainder == 0 ? 0 : remainder - 1);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  int decode(String src, int from, int to, byte[] dst, int position) {
+    int i = from;
+    int invalid = 0;
+
+    while (i + 3 < to) {
+      int bits = value(src.charAt(i)) << 18 | value(src.charAt(i + 1)) << 12
+          | value(src.charAt(i + 2)) << 6 | value(src.charAt(i + 3));
+      invalid |= bits;
+      dst[position++] = (byte) (bits >> 16);
+      dst[position++] = (byte) (bits >> 8);
+      dst[position++] = (byte) bits;
+      i += 4;
+    }
+
+    if (to - i == 2) {
+      int bits = value(src.charAt(i)) << 18 | value(src.charAt(i + 1)) << 12;
+      invalid |= bits;
+      dst[position++] = (byte) (bits >> 16);
+    } else if (to - i == 3) {
+      int bits = value(src.charAt(i)) << 18 | value(src.charAt(i + 1)) << 12 | value(src.charAt(i + 2)) << 6;
+      invalid |= bits;
+      dst[position++] = (byte) (bits >> 16);
+      dst[position++] = (byte) (bits >> 8);
+    } else if (to - i == 1) {
+      return -1;
+    }
+
+    // Invalid characters decode to -1, which sets the sign bit of every shifted group
+    return invalid < 0 ? -1 : position;
+  }
+
+  // =============================================================================
+
+  private int value(char c) {
+    return c < 128 ? DECODING[c] : -1;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private byte[] decodingTable() {
+    byte[] table = new byte[128];
+    Arrays.fill(table, (byte) -1);
+    for (int i = 0; i < ALPHABET.length; i++) {
+      table[ALPHABET[i]] = (byte) i;
+    }
+    return table;
+  }
+
+}
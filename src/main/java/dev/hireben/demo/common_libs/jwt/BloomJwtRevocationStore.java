@@ -0,0 +1,163 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtRevocation;
+import dev.hireben.demo.common_libs.jwt.api.JwtRevocationSource;
+import dev.hireben.demo.common_libs.jwt.api.JwtRevocationStore;
+
+final class BloomJwtRevocationStore implements JwtRevocationStore {
+
+  private static final System.Logger LOGGER = System.getLogger(BloomJwtRevocationStore.class.getName());
+
+  private final JwtRevocationSource source;
+  private final Clock clock;
+  private final ScheduledExecutorService scheduler;
+
+  private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+  private final Object lock = new Object();
+  private volatile JtiBloomFilter filter;
+
+  // =============================================================================
+
+  BloomJwtRevocationStore(JwtRevocationSource source, Duration pollInterval, int expectedRevocations,
+      Clock clock) {
+
+    Objects.requireNonNull(pollInterval, "Poll interval must not be null");
+    Objects.requireNonNull(clock, "Clock must not be null");
+
+    if (pollInterval.isNegative() || pollInterval.isZero()) {
+      throw new IllegalArgumentException("Poll interval must be positive");
+    }
+
+    if (expectedRevocations <= 0) {
+      throw new IllegalArgumentException("Expected revocations must be positive");
+    }
+
+    this.source = source;
+    this.clock = clock;
+    this.filter = new JtiBloomFilter(expectedRevocations);
+
+    // An unreadable feed would otherwise accept every revoked token without a trace
+    try {
+      load();
+    } catch (IOException | RuntimeException e) {
+      throw new IllegalStateException("Initial revocation poll failed", e);
+    }
+
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("jwt-revocation-poll").daemon().factory());
+    scheduler.scheduleWithFixedDelay(this::pollAndPurge, pollInterval.toMillis(), pollInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  // =============================================================================
+
+  @Override
+  public boolean isRevoked(String tokenId) {
+    if (tokenId == null || !filter.mightContain(tokenId)) {
+      return false;
+    }
+
+    Long expiresAtMillis = revoked.get(tokenId);
+    return expiresAtMillis != null && expiresAtMillis > clock.millis();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void revoke(String tokenId, Instant expiresAt) {
+    Objects.requireNonNull(tokenId, "Token id must not be null");
+    Objects.requireNonNull(expiresAt, "Token expiry must not be null");
+
+    long expiresAtMillis = expiresAt.toEpochMilli();
+
+    if (expiresAtMillis <= clock.millis()) {
+      return;
+    }
+
+    synchronized (lock) {
+      revoked.merge(tokenId, expiresAtMillis, Math::max);
+      filter.add(tokenId);
+
+      if (revoked.size() > filter.capacity()) {
+        rebuild(filter.capacity() * 2);
+      }
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public int size() {
+    return revoked.size();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  // =============================================================================
+
+  private void pollAndPurge() {
+    poll();
+    purge();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void poll() {
+    try {
+      load();
+    } catch (IOException | RuntimeException e) {
+      // Keep the revocations loaded so far until the source recovers
+      LOGGER.log(System.Logger.Level.WARNING, "Revocation poll failed, keeping previously loaded revocations", e);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void load() throws IOException {
+    if (source == null) {
+      return;
+    }
+
+    for (JwtRevocation revocation : source.poll()) {
+      revoke(revocation.getTokenId(), revocation.getExpiresAt());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void purge() {
+    long now = clock.millis();
+
+    synchronized (lock) {
+      if (revoked.values().removeIf(expiresAtMillis -> expiresAtMillis <= now)) {
+        // Bloom filters cannot forget entries, so start over from the live set
+        rebuild(filter.capacity());
+      }
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void rebuild(int capacity) {
+    JtiBloomFilter rebuilt = new JtiBloomFilter(Math.max(capacity, revoked.size()));
+    revoked.keySet().forEach(rebuilt::add);
+    filter = rebuilt;
+  }
+
+}
@@ -0,0 +1,191 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import dev.hireben.demo.common_libs.jwt.api.CachingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+
+final class CachingJwtVerifierImpl implements CachingJwtVerifier {
+
+  private static final MessageDigest SHA_256 = newSha256();
+
+  private final JwtVerifier delegate;
+  private final int maximumSize;
+  private final int evictionTarget;
+  private final long maximumTtlMillis;
+  private final Clock clock;
+
+  private final Map<TokenDigest, Entry> entries = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  // =============================================================================
+
+  CachingJwtVerifierImpl(JwtVerifier delegate, int maximumSize, Duration maximumTtl, Clock clock) {
+    Objects.requireNonNull(delegate, "Delegate verifier must not be null");
+    Objects.requireNonNull(maximumTtl, "Maximum TTL must not be null");
+    Objects.requireNonNull(clock, "Clock must not be null");
+
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Maximum cache size must be positive");
+    }
+
+    if (maximumTtl.isNegative() || maximumTtl.isZero()) {
+      throw new IllegalArgumentException("Maximum TTL must be positive");
+    }
+
+    this.delegate = delegate;
+    this.maximumSize = maximumSize;
+    this.evictionTarget = Math.max(1, maximumSize - maximumSize / 10);
+    this.maximumTtlMillis = maximumTtl.toMillis();
+    this.clock = clock;
+  }
+
+  // =============================================================================
+
+  @Override
+  public Claims verifyToken(String token) {
+    TokenDigest key = TokenDigest.of(token);
+    long now = clock.millis();
+
+    Entry cached = entries.get(key);
+
+    if (cached != null) {
+      if (now < cached.expiresAtMillis()) {
+        hits.increment();
+        return cached.claims();
+      }
+      if (entries.remove(key, cached)) {
+        evictions.increment();
+      }
+    }
+
+    misses.increment();
+
+    Claims claims = delegate.verifyToken(token);
+    long expiresAt = expiresAtMillis(claims, now);
+
+    if (expiresAt > now) {
+      entries.put(key, new Entry(claims, expiresAt));
+      if (entries.size() > maximumSize) {
+        evict(now);
+      }
+    }
+
+    return claims;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public long missCount() {
+    return misses.sum();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public long evictionCount() {
+    return evictions.sum();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  // =============================================================================
+
+  private long expiresAtMillis(Claims claims, long now) {
+    long limit = now + maximumTtlMillis;
+    Date expiration = claims.getExpiration();
+    return expiration != null ? Math.min(expiration.getTime(), limit) : limit;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void evict(long now) {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      Iterator<Entry> expired = entries.values().iterator();
+      while (expired.hasNext()) {
+        if (expired.next().expiresAtMillis() <= now) {
+          expired.remove();
+          evictions.increment();
+        }
+      }
+
+      // Keys are SHA-256 digests, so iteration order is effectively random
+      Iterator<Entry> overflow = entries.values().iterator();
+      while (entries.size() > evictionTarget && overflow.hasNext()) {
+        overflow.next();
+        overflow.remove();
+        evictions.increment();
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static MessageDigest newSha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  // =============================================================================
+
+  private record Entry(Claims claims, long expiresAtMillis) {
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private record TokenDigest(long a, long b, long c, long d) {
+
+    static TokenDigest of(String token) {
+      MessageDigest digest;
+      try {
+        digest = (MessageDigest) SHA_256.clone();
+      } catch (CloneNotSupportedException e) {
+        digest = newSha256();
+      }
+
+      ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+      return new TokenDigest(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+    }
+
+  }
+
+}
@@ -0,0 +1,190 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import dev.hireben.demo.common_libs.constant.AuthClaimKey;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimDictionary;
+import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
+import io.jsonwebtoken.Claims;
+
+final class ClaimAliases {
+
+  // Keeps the mask an exact integer for parsers that read JSON numbers as doubles
+  private static final int MAX_GROUPS = 53;
+  private static final Set<String> REGISTERED_CLAIMS = Set.of(
+      Claims.ISSUER, Claims.SUBJECT, Claims.AUDIENCE, Claims.EXPIRATION, Claims.NOT_BEFORE, Claims.ISSUED_AT,
+      Claims.ID);
+
+  private final Map<String, String> aliases;
+  private final Map<String, String> originals = new HashMap<>();
+  private final List<String> groups;
+  private final Map<String, Integer> groupBits = new HashMap<>();
+  private final String groupClaim;
+  private final String groupMaskClaim;
+
+  // =============================================================================
+
+  ClaimAliases(JwtClaimDictionary dictionary) {
+    Objects.requireNonNull(dictionary, "Claim dictionary must not be null");
+    Objects.requireNonNull(dictionary.getGroupMaskClaim(), "Group mask claim must not be null");
+
+    if (dictionary.getGroups().size() > MAX_GROUPS) {
+      throw new IllegalArgumentException("Claim dictionary supports at most " + MAX_GROUPS + " groups");
+    }
+
+    this.aliases = Map.copyOf(dictionary.getAliases());
+    this.groups = List.copyOf(dictionary.getGroups());
+    this.groupClaim = aliases.getOrDefault(AuthClaimKey.GROUP, AuthClaimKey.GROUP);
+    this.groupMaskClaim = dictionary.getGroupMaskClaim();
+
+    for (Map.Entry<String, String> alias : aliases.entrySet()) {
+      if (REGISTERED_CLAIMS.contains(alias.getKey()) || REGISTERED_CLAIMS.contains(alias.getValue())) {
+        throw new IllegalArgumentException("Registered claims cannot be aliased: " + alias.getKey());
+      }
+      if (originals.put(alias.getValue(), alias.getKey()) != null || alias.getValue().equals(groupMaskClaim)) {
+        throw new IllegalArgumentException("Claim alias is used more than once: " + alias.getValue());
+      }
+    }
+
+    if (REGISTERED_CLAIMS.contains(groupMaskClaim) || aliases.containsKey(groupMaskClaim)) {
+      throw new IllegalArgumentException("Group mask claim collides with another claim: " + groupMaskClaim);
+    }
+
+    for (int i = 0; i < groups.size(); i++) {
+      if (groupBits.put(groups.get(i), i) != null) {
+        throw new IllegalArgumentException("Group is listed more than once: " + groups.get(i));
+      }
+    }
+  }
+
+  // =============================================================================
+
+  String alias(String name) {
+    return aliases.getOrDefault(name, name);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  String groupClaim() {
+    return groupClaim;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  String groupMaskClaim() {
+    return groupMaskClaim;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  Map<String, Object> compact(Map<String, Object> claims) {
+    if (claims == null || claims.isEmpty()) {
+      return claims;
+    }
+
+    Map<String, Object> compacted = new LinkedHashMap<>();
+
+    for (Map.Entry<String, Object> claim : claims.entrySet()) {
+      String name = claim.getKey();
+
+      if (originals.containsKey(name) && !aliases.containsKey(name) || name.equals(groupMaskClaim)) {
+        throw new TokenIssuanceFailException("Claim name collides with a dictionary alias: " + name);
+      }
+
+      if (AuthClaimKey.GROUP.equals(name) && claim.getValue() instanceof Collection<?> values) {
+        compactGroups(values, compacted);
+      } else {
+        compacted.put(alias(name), claim.getValue());
+      }
+    }
+
+    return compacted;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  Map<String, Object> expand(Map<String, ?> claims) {
+    Map<String, Object> expanded = new LinkedHashMap<>();
+    Object mask = null;
+    Object extraGroups = null;
+
+    for (Map.Entry<String, ?> claim : claims.entrySet()) {
+      String name = claim.getKey();
+
+      if (name.equals(groupMaskClaim)) {
+        mask = claim.getValue();
+      } else if (name.equals(groupClaim)) {
+        extraGroups = claim.getValue();
+      } else {
+        expanded.put(originals.getOrDefault(name, name), claim.getValue());
+      }
+    }
+
+    if (mask instanceof Number number) {
+      List<String> extra = extraGroups instanceof Collection<?> values ? strings(values) : List.of();
+      expanded.put(AuthClaimKey.GROUP, groups(number.longValue(), extra));
+    } else if (extraGroups != null) {
+      expanded.put(AuthClaimKey.GROUP, extraGroups);
+    }
+
+    return expanded;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  List<String> groups(long mask, List<String> extra) {
+    List<String> expanded = new ArrayList<>(Long.bitCount(mask) + extra.size());
+
+    for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+      int bit = Long.numberOfTrailingZeros(remaining);
+      // Bits beyond the dictionary come from a newer issuer and are skipped
+      if (bit < groups.size()) {
+        expanded.add(groups.get(bit));
+      }
+    }
+
+    expanded.addAll(extra);
+    return List.copyOf(expanded);
+  }
+
+  // =============================================================================
+
+  private void compactGroups(Collection<?> values, Map<String, Object> compacted) {
+    long mask = 0;
+    List<Object> extra = new ArrayList<>();
+
+    for (Object value : values) {
+      Integer bit = value instanceof String group ? groupBits.get(group) : null;
+      if (bit != null) {
+        mask |= 1L << bit;
+      } else {
+        extra.add(value);
+      }
+    }
+
+    if (mask != 0) {
+      compacted.put(groupMaskClaim, mask);
+    }
+    if (!extra.isEmpty() || mask == 0) {
+      compacted.put(groupClaim, extra);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static List<String> strings(Collection<?> values) {
+    List<String> strings = new ArrayList<>(values.size());
+    for (Object value : values) {
+      strings.add(String.valueOf(value));
+    }
+    return strings;
+  }
+
+}
@@ -0,0 +1,61 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class CompactTokens {
+
+  public boolean isWellFormed(String token, boolean signed) {
+    if (token == null || token.isEmpty()) {
+      return false;
+    }
+
+    int secondSeparator = secondSeparator(token, 0, token.length());
+
+    return secondSeparator > 0
+        && (signed ? secondSeparator < token.length() - 1 : secondSeparator == token.length() - 1);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  // Accepts a signed or unsigned token spanning [start, end) without copying it out
+  public boolean isWellFormed(String token, int start, int end) {
+    return secondSeparator(token, start, end) > 0;
+  }
+
+  // =============================================================================
+
+  // Returns the second of exactly two separators behind non-empty header and payload segments, or -1
+  private int secondSeparator(String token, int start, int end) {
+    int firstSeparator = -1;
+    int secondSeparator = -1;
+
+    for (int i = start; i < end; i++) {
+      char c = token.charAt(i);
+      if (c == '.') {
+        if (firstSeparator < 0) {
+          firstSeparator = i;
+        } else if (secondSeparator < 0) {
+          secondSeparator = i;
+        } else {
+          return -1;
+        }
+      } else if (!isBase64UrlChar(c)) {
+        return -1;
+      }
+    }
+
+    return firstSeparator > start && secondSeparator > firstSeparator + 1 ? secondSeparator : -1;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private boolean isBase64UrlChar(char c) {
+    return (c >= 'A' && c <= 'Z')
+        || (c >= 'a' && c <= 'z')
+        || (c >= '0' && c <= '9')
+        || c == '-'
+        || c == '_';
+  }
+
+}
@@ -0,0 +1,343 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAKey;
+import java.time.Instant;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIdGenerator;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtTokenSpec;
+import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
+import io.jsonwebtoken.io.SerializationException;
+import io.jsonwebtoken.io.Serializer;
+
+final class DirectJwtIssuerImpl implements JwtIssuer {
+
+  private static final int MAX_POOLED_CONTEXTS = Runtime.getRuntime().availableProcessors() * 4;
+
+  private final String issuer;
+  private final Key key;
+  private final JwsAlgorithm algorithm;
+  private final JwtIdGenerator idGenerator;
+  private final Serializer<Map<String, ?>> serializer;
+  private final byte[] encodedHeader;
+
+  private final Queue<SigningContext> contexts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pooledContexts = new AtomicInteger();
+
+  // =============================================================================
+
+  DirectJwtIssuerImpl(String issuer, SecretKey key, String keyId) {
+    this(issuer, key, keyId, StripedJwtIdGenerator.DEFAULT);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  DirectJwtIssuerImpl(String issuer, SecretKey key, String keyId, JwtIdGenerator idGenerator) {
+    this(issuer, (Key) Objects.requireNonNull(key, "Symmetric key must not be null"), keyId, idGenerator);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  DirectJwtIssuerImpl(String issuer, PrivateKey key, String keyId) {
+    this(issuer, key, keyId, StripedJwtIdGenerator.DEFAULT);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  DirectJwtIssuerImpl(String issuer, PrivateKey key, String keyId, JwtIdGenerator idGenerator) {
+    this(issuer, (Key) Objects.requireNonNull(key, "Private key must not be null"), keyId, idGenerator);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private DirectJwtIssuerImpl(String issuer, Key key, String keyId, JwtIdGenerator idGenerator) {
+    this.issuer = issuer;
+    this.key = key;
+    this.idGenerator = Objects.requireNonNull(idGenerator, "Id generator must not be null");
+    this.algorithm = JwsAlgorithm.forKey(key);
+    this.serializer = loadSerializer();
+
+    Map<String, Object> header = new LinkedHashMap<>();
+    if (keyId != null) {
+      header.put("kid", keyId);
+    }
+    header.put("alg", algorithm.getHeaderName());
+
+    ByteArrayOutputStream headerJson = new ByteArrayOutputStream();
+    serializer.serialize(header, headerJson);
+    byte[] json = headerJson.toByteArray();
+
+    this.encodedHeader = new byte[Base64Url.encodedLength(json.length)];
+    Base64Url.encode(json, 0, json.length, encodedHeader, 0);
+
+    // Fail fast on keys the JCA provider cannot use
+    release(acquire());
+  }
+
+  // =============================================================================
+
+  @Override
+  public String issueToken(
+      String subject,
+      Collection<String> audiences,
+      Map<String, Object> claims,
+      TemporalAmount ttl,
+      Instant nbf) {
+
+    Map<String, Object> payload = payload(subject, audiences, claims, ttl, nbf, Instant.now());
+    SigningContext context = acquire();
+
+    try {
+      return context.compact(payload);
+    } finally {
+      release(context);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs) {
+    return issueChunk(specs, Instant.now());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs, Executor executor) {
+    Instant now = Instant.now();
+    return JwtBatches.issue(specs, executor, chunk -> issueChunk(chunk, now));
+  }
+
+  // =============================================================================
+
+  private List<String> issueChunk(List<JwtTokenSpec> specs, Instant now) {
+    SigningContext context = acquire();
+
+    try {
+      List<String> tokens = new ArrayList<>(specs.size());
+      for (JwtTokenSpec spec : specs) {
+        tokens.add(context.compact(payload(
+            spec.getSubject(), spec.getAudiences(), spec.getClaims(), spec.getTtl(), spec.getNbf(), now)));
+      }
+      return tokens;
+    } finally {
+      release(context);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private Map<String, Object> payload(
+      String subject,
+      Collection<String> audiences,
+      Map<String, Object> claims,
+      TemporalAmount ttl,
+      Instant nbf,
+      Instant now) {
+
+    Instant tokenEffective = nbf != null ? nbf : now;
+
+    Map<String, Object> payload = new LinkedHashMap<>();
+
+    if (issuer != null) {
+      payload.put("iss", issuer);
+    }
+
+    payload.put("jti", idGenerator.nextId());
+
+    if (subject != null) {
+      payload.put("sub", subject);
+    }
+
+    payload.put("iat", now.getEpochSecond());
+
+    if (nbf != null) {
+      payload.put("nbf", nbf.getEpochSecond());
+    }
+
+    if (ttl != null) {
+      Instant expAt = tokenEffective.plus(ttl);
+      if (expAt.isBefore(now)) {
+        throw new TokenIssuanceFailException("Token expiration cannot be in the past");
+      }
+      payload.put("exp", expAt.getEpochSecond());
+    }
+
+    if (audiences != null && !audiences.isEmpty()) {
+      payload.put("aud", List.copyOf(audiences));
+    }
+
+    if (claims != null && !claims.isEmpty()) {
+      payload.putAll(claims);
+    }
+
+    return payload;
+  }
+
+  // =============================================================================
+
+  private SigningContext acquire() {
+    SigningContext context = contexts.poll();
+
+    if (context != null) {
+      pooledContexts.decrementAndGet();
+      return context;
+    }
+
+    try {
+      return new SigningContext();
+    } catch (GeneralSecurityException e) {
+      throw new TokenIssuanceFailException("Unable to initialize token signer", e);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void release(SigningContext context) {
+    if (pooledContexts.incrementAndGet() <= MAX_POOLED_CONTEXTS) {
+      contexts.offer(context);
+    } else {
+      pooledContexts.decrementAndGet();
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @SuppressWarnings("unchecked")
+  private static Serializer<Map<String, ?>> loadSerializer() {
+    return ServiceLoader.load(Serializer.class).findFirst()
+        .orElseThrow(() -> new IllegalStateException("No JWT JSON serializer found on the classpath"));
+  }
+
+  // =============================================================================
+
+  private final class SigningContext {
+
+    private final Mac mac;
+    private final Signature signature;
+    private final byte[] signatureBytes;
+    private final PayloadBuffer payload = new PayloadBuffer();
+    private byte[] token = new byte[512];
+
+    // ---------------------------------------------------------------------------
+
+    SigningContext() throws GeneralSecurityException {
+      if (algorithm.isMac()) {
+        mac = Mac.getInstance(algorithm.getJcaName());
+        mac.init(key);
+        signature = null;
+        signatureBytes = new byte[mac.getMacLength()];
+      } else {
+        mac = null;
+        signature = Signature.getInstance(algorithm.getJcaName());
+        signature.initSign((PrivateKey) key);
+        signatureBytes = new byte[maxSignatureLength()];
+      }
+    }
+
+    // ---------------------------------------------------------------------------
+
+    String compact(Map<String, Object> claims) {
+      try {
+        return compactOrThrow(claims);
+      } catch (GeneralSecurityException | SerializationException e) {
+        throw new TokenIssuanceFailException("Unable to sign token", e);
+      }
+    }
+
+    // ---------------------------------------------------------------------------
+
+    private String compactOrThrow(Map<String, Object> claims) throws GeneralSecurityException {
+      payload.reset();
+      serializer.serialize(claims, payload);
+
+      int payloadLength = payload.size();
+      ensureCapacity(encodedHeader.length + 1 + Base64Url.encodedLength(payloadLength)
+          + 1 + Base64Url.encodedLength(signatureBytes.length));
+
+      System.arraycopy(encodedHeader, 0, token, 0, encodedHeader.length);
+      int position = encodedHeader.length;
+      token[position++] = '.';
+      position = Base64Url.encode(payload.array(), 0, payloadLength, token, position);
+
+      int signatureLength = sign(position);
+
+      token[position++] = '.';
+      position = Base64Url.encode(signatureBytes, 0, signatureLength, token, position);
+
+      return new String(token, 0, position, StandardCharsets.US_ASCII);
+    }
+
+    // ---------------------------------------------------------------------------
+
+    private int sign(int signingInputLength) throws GeneralSecurityException {
+      if (mac != null) {
+        mac.update(token, 0, signingInputLength);
+        mac.doFinal(signatureBytes, 0);
+        return signatureBytes.length;
+      }
+
+      signature.update(token, 0, signingInputLength);
+      return signature.sign(signatureBytes, 0, signatureBytes.length);
+    }
+
+    // ---------------------------------------------------------------------------
+
+    private int maxSignatureLength() {
+      return switch (algorithm) {
+        case RS256, RS384, RS512 -> (((RSAKey) key).getModulus().bitLength() + 7) / 8;
+        case ES256, EDDSA -> 64;
+        case ES384 -> 96;
+        case ES512 -> 132;
+        default -> throw new IllegalArgumentException("Unsupported signature algorithm: " + algorithm);
+      };
+    }
+
+    // ---------------------------------------------------------------------------
+
+    private void ensureCapacity(int capacity) {
+      if (token.length < capacity) {
+        token = Arrays.copyOf(token, Math.max(capacity, token.length * 2));
+      }
+    }
+
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static final class PayloadBuffer extends ByteArrayOutputStream {
+
+    PayloadBuffer() {
+      super(512);
+    }
+
+    byte[] array() {
+      return buf;
+    }
+
+  }
+
+}
@@ -0,0 +1,113 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Instant;
+import java.time.temporal.TemporalAmount;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtTokenSpec;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+final class InstrumentedJwtIssuerImpl implements JwtIssuer {
+
+  static final String ISSUE_METRIC_NAME = "jwt.issue";
+
+  private final JwtIssuer delegate;
+
+  private final Timer issued;
+  private final Timer failed;
+  private final Timer batchIssued;
+  private final Timer batchFailed;
+  private final DistributionSummary tokenSize;
+
+  // =============================================================================
+
+  InstrumentedJwtIssuerImpl(JwtIssuer delegate, MeterRegistry registry) {
+    this.delegate = Objects.requireNonNull(delegate, "Delegate issuer must not be null");
+    Objects.requireNonNull(registry, "Meter registry must not be null");
+
+    this.issued = issueTimer(registry, "single", "issued");
+    this.failed = issueTimer(registry, "single", "failed");
+    this.batchIssued = issueTimer(registry, "batch", "issued");
+    this.batchFailed = issueTimer(registry, "batch", "failed");
+    this.tokenSize = InstrumentedJwtVerifierImpl.tokenSizeSummary(registry, "issue");
+  }
+
+  // =============================================================================
+
+  @Override
+  public String issueToken(
+      String subject,
+      Collection<String> audiences,
+      Map<String, Object> claims,
+      TemporalAmount ttl,
+      Instant nbf) {
+
+    long start = System.nanoTime();
+    String token;
+
+    try {
+      token = delegate.issueToken(subject, audiences, claims, ttl, nbf);
+    } catch (RuntimeException e) {
+      failed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+
+    issued.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    tokenSize.record(token.length());
+    return token;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs) {
+    return recordBatch(() -> delegate.issueTokens(specs));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs, Executor executor) {
+    return recordBatch(() -> delegate.issueTokens(specs, executor));
+  }
+
+  // =============================================================================
+
+  private List<String> recordBatch(Supplier<List<String>> batch) {
+    long start = System.nanoTime();
+    List<String> tokens;
+
+    try {
+      tokens = batch.get();
+    } catch (RuntimeException e) {
+      batchFailed.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+
+    batchIssued.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    for (String token : tokens) {
+      tokenSize.record(token.length());
+    }
+    return tokens;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static Timer issueTimer(MeterRegistry registry, String mode, String outcome) {
+    return Timer.builder(ISSUE_METRIC_NAME)
+        .tag("mode", mode)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+}
@@ -0,0 +1,191 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtRejectionReason;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenVerificationBusyException;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+final class InstrumentedJwtVerifierImpl implements JwtVerifier {
+
+  static final String VERIFY_METRIC_NAME = "jwt.verify";
+  static final String PHASE_METRIC_NAME = "jwt.verify.phase";
+  static final String FAILURE_METRIC_NAME = "jwt.verify.failures";
+  static final String TOKEN_SIZE_METRIC_NAME = "jwt.token.size";
+  static final String QUEUE_METRIC_NAME = "jwt.verify.queue";
+
+  private final JwtVerifier delegate;
+  private final boolean phased;
+
+  private final Timer verified;
+  private final Timer rejected;
+  private final Timer busy;
+  private final Timer parsePhase;
+  private final Timer signaturePhase;
+  private final Timer claimsPhase;
+  private final DistributionSummary tokenSize;
+  private final Map<JwtRejectionReason, Counter> failures = new EnumMap<>(JwtRejectionReason.class);
+
+  // =============================================================================
+
+  InstrumentedJwtVerifierImpl(JwtVerifier delegate, MeterRegistry registry) {
+    Objects.requireNonNull(delegate, "Delegate verifier must not be null");
+    Objects.requireNonNull(registry, "Meter registry must not be null");
+
+    this.delegate = phaseTimed(delegate);
+    this.phased = this.delegate != delegate;
+
+    this.verified = verifyTimer(registry, "verified");
+    this.rejected = verifyTimer(registry, "rejected");
+    this.busy = verifyTimer(registry, "busy");
+    this.parsePhase = phaseTimer(registry, "parse");
+    this.signaturePhase = phaseTimer(registry, "signature");
+    this.claimsPhase = phaseTimer(registry, "claims");
+    this.tokenSize = tokenSizeSummary(registry, "verify");
+
+    for (JwtRejectionReason reason : JwtRejectionReason.values()) {
+      failures.put(reason, Counter.builder(FAILURE_METRIC_NAME)
+          .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+          .register(registry));
+    }
+  }
+
+  // =============================================================================
+
+  @Override
+  public Claims verifyToken(String token) {
+    recordSize(token);
+
+    PhaseTimingDeserializer.PhaseMarks marks = phased ? PhaseTimingDeserializer.start() : null;
+    long start = System.nanoTime();
+
+    try {
+      Claims claims = delegate.verifyToken(token);
+      recordVerified(start, marks);
+      return claims;
+    } catch (TokenVerificationBusyException e) {
+      busy.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    } catch (RuntimeException e) {
+      recordRejected(start, JwtRejectionReason.of(e));
+      throw e;
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public JwtVerification verify(String token) {
+    recordSize(token);
+
+    PhaseTimingDeserializer.PhaseMarks marks = phased ? PhaseTimingDeserializer.start() : null;
+    long start = System.nanoTime();
+    JwtVerification verification;
+
+    try {
+      verification = delegate.verify(token);
+    } catch (TokenVerificationBusyException e) {
+      busy.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw e;
+    }
+
+    if (verification instanceof JwtVerification.Rejected(JwtRejectionReason reason, String message)) {
+      recordRejected(start, reason);
+    } else {
+      recordVerified(start, marks);
+    }
+
+    return verification;
+  }
+
+  // =============================================================================
+
+  // Phase boundaries are only observable through the parser of the built-in verifier
+  private static JwtVerifier phaseTimed(JwtVerifier delegate) {
+    if (delegate instanceof JwtVerifierImpl verifier) {
+      return verifier.withDeserializer(new PhaseTimingDeserializer());
+    }
+
+    if (delegate instanceof PreValidatingJwtVerifierImpl verifier) {
+      JwtVerifier inner = phaseTimed(verifier.delegate());
+      return inner != verifier.delegate() ? verifier.withDelegate(inner) : delegate;
+    }
+
+    return delegate;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void recordSize(String token) {
+    if (token != null) {
+      tokenSize.record(token.length());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void recordVerified(long start, PhaseTimingDeserializer.PhaseMarks marks) {
+    verified.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+    if (marks != null && marks.isComplete()) {
+      parsePhase.record(marks.headerEnd - marks.start, TimeUnit.NANOSECONDS);
+      signaturePhase.record(marks.claimsStart - marks.headerEnd, TimeUnit.NANOSECONDS);
+      claimsPhase.record(marks.claimsEnd - marks.claimsStart, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void recordRejected(long start, JwtRejectionReason reason) {
+    rejected.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    failures.get(reason).increment();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static Timer verifyTimer(MeterRegistry registry, String outcome) {
+    return Timer.builder(VERIFY_METRIC_NAME)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static Timer phaseTimer(MeterRegistry registry, String phase) {
+    return Timer.builder(PHASE_METRIC_NAME)
+        .tag("phase", phase)
+        .register(registry);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static LongConsumer queueTimeRecorder(MeterRegistry registry) {
+    Timer queueTime = Timer.builder(QUEUE_METRIC_NAME)
+        .publishPercentileHistogram()
+        .register(registry);
+    return nanos -> queueTime.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static DistributionSummary tokenSizeSummary(MeterRegistry registry, String operation) {
+    return DistributionSummary.builder(TOKEN_SIZE_METRIC_NAME)
+        .baseUnit("bytes")
+        .tag("operation", operation)
+        .publishPercentiles(0.5, 0.99)
+        .register(registry);
+  }
+
+}
@@ -0,0 +1,436 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import io.jsonwebtoken.RequiredTypeException;
+
+// Indexes the top-level members of a JSON object in one pass and decodes values only on demand
+final class JsonClaimsIndex {
+
+  private static final int MEMBER_SLOTS = 4;
+
+  private final byte[] json;
+  private final int length;
+  private int[] members = new int[16 * MEMBER_SLOTS];
+  private int count;
+
+  // =============================================================================
+
+  private JsonClaimsIndex(byte[] json, int length) {
+    this.json = json;
+    this.length = length;
+  }
+
+  // =============================================================================
+
+  static JsonClaimsIndex of(byte[] json, int length) {
+    JsonClaimsIndex index = new JsonClaimsIndex(json, length);
+    index.scan();
+    return index;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static JsonClaimsIndex decode(String token, int from, int to) {
+    int length = Base64Url.decodedLength(to - from);
+    if (length < 0) {
+      throw malformed();
+    }
+
+    byte[] json = new byte[length];
+    if (Base64Url.decode(token, from, to, json, 0) < 0) {
+      throw malformed();
+    }
+
+    return of(json, length);
+  }
+
+  // =============================================================================
+
+  int find(String name) {
+    // Last occurrence wins, as with Jackson
+    for (int member = count - 1; member >= 0; member--) {
+      if (keyEquals(member, name)) {
+        return member;
+      }
+    }
+    return -1;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  boolean isNull(int member) {
+    return json[valueStart(member)] == 'n';
+  }
+
+  // -----------------------------------------------------------------------------
+
+  String string(int member, String name) {
+    int start = valueStart(member);
+    if (json[start] != '"') {
+      throw new RequiredTypeException("Claim '" + name + "' is not a string");
+    }
+    return decodeString(start + 1, valueEnd(member) - 1);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  long number(int member, String name) {
+    int start = valueStart(member);
+    int end = valueEnd(member);
+    byte first = json[start];
+
+    if (first != '-' && (first < '0' || first > '9')) {
+      throw new RequiredTypeException("Claim '" + name + "' is not a number");
+    }
+
+    boolean negative = first == '-';
+    long value = 0;
+
+    if (negative && end - start == 1) {
+      throw malformed();
+    }
+
+    for (int i = negative ? start + 1 : start; i < end; i++) {
+      byte b = json[i];
+      if (b < '0' || b > '9' || value > (Long.MAX_VALUE - 9) / 10) {
+        // Fractions, exponents and oversized values take the slow path
+        return parseDouble(start, end);
+      }
+      value = value * 10 + (b - '0');
+    }
+
+    return negative ? -value : value;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  // The scanner only bounds the token to number characters, so runs like 1-2 end up here
+  private long parseDouble(int start, int end) {
+    try {
+      return (long) Double.parseDouble(new String(json, start, end - start, StandardCharsets.US_ASCII));
+    } catch (NumberFormatException e) {
+      throw malformed();
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  List<String> strings(int member, String name) {
+    int start = valueStart(member);
+
+    if (json[start] == '"') {
+      return List.of(decodeString(start + 1, valueEnd(member) - 1));
+    }
+
+    if (json[start] != '[') {
+      throw new RequiredTypeException("Claim '" + name + "' is not a string array");
+    }
+
+    List<String> values = new ArrayList<>();
+    int position = skipWhitespace(start + 1);
+
+    while (json[position] != ']') {
+      if (json[position] != '"') {
+        throw new RequiredTypeException("Claim '" + name + "' is not a string array");
+      }
+      int end = endOfString(position);
+      values.add(decodeString(position + 1, end));
+      position = skipWhitespace(end + 1);
+      if (json[position] == ',') {
+        position = skipWhitespace(position + 1);
+      }
+    }
+
+    return List.copyOf(values);
+  }
+
+  // =============================================================================
+
+  private void scan() {
+    int position = skipWhitespace(0);
+    expect(position, '{');
+    position = skipWhitespace(position + 1);
+
+    if (peek(position) == '}') {
+      position++;
+    } else {
+      while (true) {
+        expect(position, '"');
+        int keyEnd = endOfString(position);
+        int keyStart = position + 1;
+
+        position = skipWhitespace(keyEnd + 1);
+        expect(position, ':');
+        int valueStart = skipWhitespace(position + 1);
+        int valueEnd = skipValue(valueStart);
+        add(keyStart, keyEnd, valueStart, valueEnd);
+
+        position = skipWhitespace(valueEnd);
+        if (peek(position) == ',') {
+          position = skipWhitespace(position + 1);
+        } else {
+          expect(position, '}');
+          position++;
+          break;
+        }
+      }
+    }
+
+    if (skipWhitespace(position) != length) {
+      throw malformed();
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private int skipValue(int position) {
+    return switch (peek(position)) {
+      case '"' -> endOfString(position) + 1;
+      case '{', '[' -> skipContainer(position);
+      case 't' -> skipLiteral(position, "true");
+      case 'f' -> skipLiteral(position, "false");
+      case 'n' -> skipLiteral(position, "null");
+      default -> skipNumber(position);
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private int skipContainer(int position) {
+    byte[] closers = new byte[8];
+    int depth = 0;
+
+    do {
+      byte b = peek(position);
+      if (b == '"') {
+        position = endOfString(position) + 1;
+        continue;
+      }
+      if (b == '{' || b == '[') {
+        if (depth == closers.length) {
+          closers = Arrays.copyOf(closers, depth * 2);
+        }
+        closers[depth++] = (byte) (b == '{' ? '}' : ']');
+      } else if (b == '}' || b == ']') {
+        if (closers[--depth] != b) {
+          throw malformed();
+        }
+      }
+      position++;
+    } while (depth > 0);
+
+    return position;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private int skipLiteral(int position, String literal) {
+    for (int i = 0; i < literal.length(); i++) {
+      if (peek(position + i) != literal.charAt(i)) {
+        throw malformed();
+      }
+    }
+    return position + literal.length();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private int skipNumber(int position) {
+    int start = position;
+    while (position < length && isNumberByte(json[position])) {
+      position++;
+    }
+    if (position == start) {
+      throw malformed();
+    }
+    return position;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private int endOfString(int quote) {
+    for (int i = quote + 1; i < length; i++) {
+      byte b = json[i];
+      if (b == '"') {
+        return i;
+      }
+      if (b == '\\') {
+        i++;
+      } else if (b >= 0 && b < 0x20) {
+        throw malformed();
+      }
+    }
+    throw malformed();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private String decodeString(int start, int end) {
+    int escape = indexOf('\\', start, end);
+    if (escape < 0) {
+      return new String(json, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    StringBuilder value = new StringBuilder(end - start);
+    int run = start;
+
+    while (escape >= 0) {
+      value.append(new String(json, run, escape - run, StandardCharsets.UTF_8));
+      byte kind = json[escape + 1];
+      run = escape + 2;
+
+      switch (kind) {
+        case 'b' -> value.append('\b');
+        case 'f' -> value.append('\f');
+        case 'n' -> value.append('\n');
+        case 'r' -> value.append('\r');
+        case 't' -> value.append('\t');
+        case 'u' -> {
+          if (escape + 6 > end) {
+            throw malformed();
+          }
+          value.append(hexChar(escape + 2));
+          run = escape + 6;
+        }
+        default -> value.append((char) kind);
+      }
+
+      escape = indexOf('\\', run, end);
+    }
+
+    return value.append(new String(json, run, end - run, StandardCharsets.UTF_8)).toString();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private char hexChar(int start) {
+    int value = 0;
+    for (int i = start; i < start + 4; i++) {
+      int digit = Character.digit(json[i], 16);
+      if (digit < 0) {
+        throw malformed();
+      }
+      value = value << 4 | digit;
+    }
+    return (char) value;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private boolean keyEquals(int member, String name) {
+    int start = members[member * MEMBER_SLOTS];
+    int end = members[member * MEMBER_SLOTS + 1];
+
+    if (indexOf('\\', start, end) >= 0) {
+      return decodeString(start, end).equals(name);
+    }
+
+    if (end - start != name.length()) {
+      // Only names with multi-byte UTF-8 characters can differ in byte and char length
+      return hasNonAscii(name) && decodeString(start, end).equals(name);
+    }
+
+    for (int i = 0; i < name.length(); i++) {
+      if (json[start + i] != name.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // =============================================================================
+
+  private void add(int keyStart, int keyEnd, int valueStart, int valueEnd) {
+    int slot = count * MEMBER_SLOTS;
+    if (slot == members.length) {
+      members = Arrays.copyOf(members, members.length * 2);
+    }
+    members[slot] = keyStart;
+    members[slot + 1] = keyEnd;
+    members[slot + 2] = valueStart;
+    members[slot + 3] = valueEnd;
+    count++;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private int valueStart(int member) {
+    return members[member * MEMBER_SLOTS + 2];
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private int valueEnd(int member) {
+    return members[member * MEMBER_SLOTS + 3];
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private byte peek(int position) {
+    if (position >= length) {
+      throw malformed();
+    }
+    return json[position];
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void expect(int position, char expected) {
+    if (peek(position) != expected) {
+      throw malformed();
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private int skipWhitespace(int position) {
+    while (position < length) {
+      byte b = json[position];
+      if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+        break;
+      }
+      position++;
+    }
+    return position;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private int indexOf(char c, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (json[i] == c) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static boolean isNumberByte(byte b) {
+    return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static boolean hasNonAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > 0x7f) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static TokenMalformedException malformed() {
+    return new TokenMalformedException("Token is malformed", false);
+  }
+
+}
@@ -0,0 +1,88 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class JtiBloomFilter {
+
+  private static final int HASH_FUNCTIONS = 7;
+  private static final int BITS_PER_ENTRY = 10;
+
+  private final int capacity;
+  private final long bitMask;
+  private final AtomicLongArray words;
+
+  // =============================================================================
+
+  JtiBloomFilter(int capacity) {
+    this.capacity = Math.max(capacity, 64);
+
+    long bits = Long.highestOneBit((long) this.capacity * BITS_PER_ENTRY - 1) << 1;
+    this.bitMask = bits - 1;
+    this.words = new AtomicLongArray((int) (bits >>> 6));
+  }
+
+  // =============================================================================
+
+  int capacity() {
+    return capacity;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  void add(String jti) {
+    long h1 = hash(jti, 0x9e3779b97f4a7c15L);
+    long h2 = hash(jti, 0xc2b2ae3d27d4eb4fL) | 1;
+
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      long bit = (h1 + i * h2) & bitMask;
+      setBit((int) (bit >>> 6), 1L << bit);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  boolean mightContain(String jti) {
+    long h1 = hash(jti, 0x9e3779b97f4a7c15L);
+    long h2 = hash(jti, 0xc2b2ae3d27d4eb4fL) | 1;
+
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      long bit = (h1 + i * h2) & bitMask;
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // =============================================================================
+
+  private void setBit(int index, long mask) {
+    long word = words.get(index);
+    while ((word & mask) == 0 && !words.weakCompareAndSetVolatile(index, word, word | mask)) {
+      word = words.get(index);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static long hash(String value, long seed) {
+    long h = seed;
+    for (int i = 0; i < value.length(); i++) {
+      h = (h ^ value.charAt(i)) * 0x100000001b3L;
+    }
+    return mix(h ^ value.length());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static long mix(long h) {
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+}
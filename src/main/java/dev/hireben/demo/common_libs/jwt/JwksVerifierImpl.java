@@ -0,0 +1,192 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.io.IOException;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.crypto.SecretKey;
+
+import dev.hireben.demo.common_libs.jwt.api.JwksSource;
+import dev.hireben.demo.common_libs.jwt.api.JwksVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.io.Parser;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+
+final class JwksVerifierImpl implements JwksVerifier {
+
+  private static final System.Logger LOGGER = System.getLogger(JwksVerifierImpl.class.getName());
+
+  private final JwksSource source;
+  private final long refreshIntervalMillis;
+  private final long unknownKeyCooldownMillis;
+
+  private final Parser<JwkSet> jwksParser = Jwks.setParser().build();
+  private final JwtParser parser = Jwts.parser().keyLocator(new KeyIdLocator()).build();
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("jwks-refresh").daemon().factory());
+
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private volatile Map<String, Key> keys = Map.of();
+  private volatile long lastRefreshMillis;
+
+  // =============================================================================
+
+  JwksVerifierImpl(JwksSource source, Duration refreshInterval, Duration unknownKeyCooldown) {
+    Objects.requireNonNull(source, "JWKS source must not be null");
+    Objects.requireNonNull(refreshInterval, "Refresh interval must not be null");
+    Objects.requireNonNull(unknownKeyCooldown, "Unknown key cooldown must not be null");
+
+    if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+      throw new IllegalArgumentException("Refresh interval must be positive");
+    }
+
+    this.source = source;
+    this.refreshIntervalMillis = refreshInterval.toMillis();
+    this.unknownKeyCooldownMillis = unknownKeyCooldown.toMillis();
+
+    // A verifier without keys rejects every token, so a bad source must fail fast
+    try {
+      this.keys = load();
+    } catch (IOException | RuntimeException e) {
+      scheduler.shutdownNow();
+      throw new IllegalStateException("Initial JWKS fetch failed", e);
+    }
+
+    if (keys.isEmpty()) {
+      scheduler.shutdownNow();
+      throw new IllegalStateException("JWKS source has no usable keys");
+    }
+
+    lastRefreshMillis = System.currentTimeMillis();
+    scheduleRefresh();
+  }
+
+  // =============================================================================
+
+  @Override
+  public Claims verifyToken(String token) {
+    return parser.parseSignedClaims(token).getPayload();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public int keyCount() {
+    return keys.size();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  // =============================================================================
+
+  private void scheduleRefresh() {
+    long jitter = refreshIntervalMillis / 10;
+    long delay = refreshIntervalMillis - jitter + ThreadLocalRandom.current().nextLong(2 * jitter + 1);
+
+    scheduler.schedule(() -> {
+      if (refreshing.compareAndSet(false, true)) {
+        refresh();
+      }
+      scheduleRefresh();
+    }, delay, TimeUnit.MILLISECONDS);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void requestRefresh() {
+    if (System.currentTimeMillis() - lastRefreshMillis < unknownKeyCooldownMillis) {
+      return;
+    }
+
+    if (refreshing.compareAndSet(false, true)) {
+      try {
+        scheduler.execute(this::refresh);
+      } catch (RuntimeException e) {
+        refreshing.set(false);
+      }
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void refresh() {
+    try {
+      Map<String, Key> loaded = load();
+
+      if (loaded.isEmpty()) {
+        LOGGER.log(System.Logger.Level.WARNING,
+            "JWKS refresh returned no usable keys, keeping {0} previously loaded keys", keys.size());
+      } else {
+        keys = loaded;
+      }
+    } catch (IOException | RuntimeException e) {
+      // Keep serving the previously loaded keys until the source recovers
+      LOGGER.log(System.Logger.Level.WARNING, "JWKS refresh failed, keeping previously loaded keys", e);
+    } finally {
+      lastRefreshMillis = System.currentTimeMillis();
+      refreshing.set(false);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private Map<String, Key> load() throws IOException {
+    JwkSet jwks = jwksParser.parse(source.fetch());
+    Map<String, Key> parsed = new HashMap<>();
+
+    for (Jwk<?> jwk : jwks.getKeys()) {
+      Key key = jwk.toKey();
+      if (jwk.getId() != null && (key instanceof PublicKey || key instanceof SecretKey)) {
+        parsed.put(jwk.getId(), key);
+      }
+    }
+
+    return Map.copyOf(parsed);
+  }
+
+  // =============================================================================
+
+  private final class KeyIdLocator extends LocatorAdapter<Key> {
+
+    @Override
+    protected Key locate(ProtectedHeader header) {
+      String keyId = header.getKeyId();
+
+      if (keyId == null) {
+        throw new TokenMalformedException("Token key id is missing", false);
+      }
+
+      Key key = keys.get(keyId);
+
+      if (key == null) {
+        requestRefresh();
+        throw new TokenMalformedException("Token key id is not recognized", false);
+      }
+
+      return key;
+    }
+
+  }
+
+}
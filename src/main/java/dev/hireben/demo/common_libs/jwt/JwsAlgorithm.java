@@ -0,0 +1,88 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.security.Key;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.EdECKey;
+import java.security.interfaces.RSAKey;
+
+import javax.crypto.SecretKey;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter(AccessLevel.PACKAGE)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+enum JwsAlgorithm {
+
+  HS256("HS256", "HmacSHA256"),
+  HS384("HS384", "HmacSHA384"),
+  HS512("HS512", "HmacSHA512"),
+  RS256("RS256", "SHA256withRSA"),
+  RS384("RS384", "SHA384withRSA"),
+  RS512("RS512", "SHA512withRSA"),
+  ES256("ES256", "SHA256withECDSAinP1363Format"),
+  ES384("ES384", "SHA384withECDSAinP1363Format"),
+  ES512("ES512", "SHA512withECDSAinP1363Format"),
+  EDDSA("EdDSA", "Ed25519");
+
+  private final String headerName;
+  private final String jcaName;
+
+  // =============================================================================
+
+  boolean isMac() {
+    return this == HS256 || this == HS384 || this == HS512;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static JwsAlgorithm forKey(Key key) {
+    if (key instanceof SecretKey) {
+      int bits = key.getEncoded().length * Byte.SIZE;
+      if (bits >= 512) {
+        return HS512;
+      }
+      if (bits >= 384) {
+        return HS384;
+      }
+      if (bits >= 256) {
+        return HS256;
+      }
+      throw new IllegalArgumentException("HMAC key must be at least 256 bits");
+    }
+
+    if (key instanceof RSAKey rsaKey) {
+      int bits = rsaKey.getModulus().bitLength();
+      if (bits >= 4096) {
+        return RS512;
+      }
+      if (bits >= 3072) {
+        return RS384;
+      }
+      if (bits >= 2048) {
+        return RS256;
+      }
+      throw new IllegalArgumentException("RSA key must be at least 2048 bits");
+    }
+
+    if (key instanceof ECKey ecKey) {
+      return switch (ecKey.getParams().getCurve().getField().getFieldSize()) {
+        case 256 -> ES256;
+        case 384 -> ES384;
+        case 521 -> ES512;
+        default -> throw new IllegalArgumentException("EC key must use the P-256, P-384 or P-521 curve");
+      };
+    }
+
+    if (key instanceof EdECKey edKey) {
+      if (!"Ed25519".equals(edKey.getParams().getName())) {
+        throw new IllegalArgumentException("EdDSA key must use the Ed25519 curve");
+      }
+      return EDDSA;
+    }
+
+    throw new IllegalArgumentException("Unsupported key algorithm: " + key.getAlgorithm());
+  }
+
+}
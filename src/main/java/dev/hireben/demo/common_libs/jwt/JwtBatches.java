@@ -0,0 +1,58 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtTokenSpec;
+import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class JwtBatches {
+
+  private final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+  // =============================================================================
+
+  List<String> issue(
+      List<JwtTokenSpec> specs,
+      Executor executor,
+      Function<List<JwtTokenSpec>, List<String>> chunkIssuer) {
+
+    Objects.requireNonNull(specs, "Token specs must not be null");
+    Objects.requireNonNull(executor, "Executor must not be null");
+
+    if (specs.size() <= 1) {
+      return chunkIssuer.apply(specs);
+    }
+
+    int chunkSize = Math.ceilDiv(specs.size(), PARALLELISM);
+    List<CompletableFuture<List<String>>> chunks = new ArrayList<>(PARALLELISM);
+
+    for (int from = 0; from < specs.size(); from += chunkSize) {
+      List<JwtTokenSpec> chunk = specs.subList(from, Math.min(from + chunkSize, specs.size()));
+      chunks.add(CompletableFuture.supplyAsync(() -> chunkIssuer.apply(chunk), executor));
+    }
+
+    List<String> tokens = new ArrayList<>(specs.size());
+
+    try {
+      for (CompletableFuture<List<String>> chunk : chunks) {
+        tokens.addAll(chunk.join());
+      }
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new TokenIssuanceFailException("Unable to issue token batch", e.getCause());
+    }
+
+    return tokens;
+  }
+
+}
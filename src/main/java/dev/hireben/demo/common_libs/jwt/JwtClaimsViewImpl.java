@@ -0,0 +1,114 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Instant;
+import java.util.List;
+
+import dev.hireben.demo.common_libs.constant.AuthClaimKey;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsView;
+import io.jsonwebtoken.Claims;
+
+final class JwtClaimsViewImpl implements JwtClaimsView {
+
+  private final JsonClaimsIndex claims;
+
+  // =============================================================================
+
+  JwtClaimsViewImpl(JsonClaimsIndex claims) {
+    this.claims = claims;
+  }
+
+  // =============================================================================
+
+  @Override
+  public String getIssuer() {
+    return getString(Claims.ISSUER);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public String getSubject() {
+    return getString(Claims.SUBJECT);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> getAudience() {
+    return getStringList(Claims.AUDIENCE);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public String getId() {
+    return getString(Claims.ID);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public Instant getIssuedAt() {
+    return getInstant(Claims.ISSUED_AT);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public Instant getNotBefore() {
+    return getInstant(Claims.NOT_BEFORE);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public Instant getExpiration() {
+    return getInstant(Claims.EXPIRATION);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> getGroups() {
+    return getStringList(AuthClaimKey.GROUP);
+  }
+
+  // =============================================================================
+
+  @Override
+  public boolean containsKey(String name) {
+    return claims.find(name) >= 0;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public String getString(String name) {
+    int member = claims.find(name);
+    return member < 0 || claims.isNull(member) ? null : claims.string(member, name);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public Long getLong(String name) {
+    int member = claims.find(name);
+    return member < 0 || claims.isNull(member) ? null : claims.number(member, name);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> getStringList(String name) {
+    int member = claims.find(name);
+    return member < 0 || claims.isNull(member) ? List.of() : claims.strings(member, name);
+  }
+
+  // =============================================================================
+
+  private Instant getInstant(String name) {
+    Long seconds = getLong(name);
+    return seconds != null ? Instant.ofEpochSecond(seconds) : null;
+  }
+
+}
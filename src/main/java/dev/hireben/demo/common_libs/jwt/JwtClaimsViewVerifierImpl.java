@@ -0,0 +1,257 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsView;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsViewVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+final class JwtClaimsViewVerifierImpl implements JwtClaimsViewVerifier {
+
+  private static final int MAX_POOLED_CONTEXTS = Runtime.getRuntime().availableProcessors() * 4;
+
+  private final Key key;
+  private final JwsAlgorithm keyAlgorithm;
+  private final Clock clock;
+
+  private final Queue<VerificationContext> contexts = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pooledContexts = new AtomicInteger();
+
+  // =============================================================================
+
+  JwtClaimsViewVerifierImpl(SecretKey key, Clock clock) {
+    this((Key) Objects.requireNonNull(key, "Symmetric key must not be null"), clock);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  JwtClaimsViewVerifierImpl(PublicKey key, Clock clock) {
+    this((Key) Objects.requireNonNull(key, "Public key must not be null"), clock);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private JwtClaimsViewVerifierImpl(Key key, Clock clock) {
+    this.key = key;
+    this.keyAlgorithm = JwsAlgorithm.forKey(key);
+    this.clock = Objects.requireNonNull(clock, "Clock must not be null");
+
+    // Fail fast on keys the JCA provider cannot use
+    release(acquire(keyAlgorithm));
+  }
+
+  // =============================================================================
+
+  @Override
+  public JwtClaimsView verifyClaimsView(String token) {
+    if (!CompactTokens.isWellFormed(token, true)) {
+      throw malformed();
+    }
+
+    int headerEnd = token.indexOf('.');
+    int payloadEnd = token.indexOf('.', headerEnd + 1);
+
+    JwsAlgorithm algorithm = headerAlgorithm(token, headerEnd);
+    VerificationContext context = acquire(algorithm);
+    boolean valid;
+
+    try {
+      valid = context.verify(token, payloadEnd);
+    } catch (GeneralSecurityException e) {
+      // The context may be left mid-operation, so it is dropped instead of pooled
+      throw new SignatureException("Token signature is invalid", e);
+    }
+
+    release(context);
+
+    if (!valid) {
+      throw new SignatureException("Token signature does not match");
+    }
+
+    JwtClaimsViewImpl claims = new JwtClaimsViewImpl(JsonClaimsIndex.decode(token, headerEnd + 1, payloadEnd));
+    validateTimes(claims);
+    return claims;
+  }
+
+  // =============================================================================
+
+  private JwsAlgorithm headerAlgorithm(String token, int headerEnd) {
+    JsonClaimsIndex header = JsonClaimsIndex.decode(token, 0, headerEnd);
+
+    if (header.find("crit") >= 0) {
+      throw new UnsupportedJwtException("Critical header parameters are not supported");
+    }
+
+    int member = header.find("alg");
+    String name = member < 0 || header.isNull(member) ? null : header.string(member, "alg");
+
+    for (JwsAlgorithm algorithm : JwsAlgorithm.values()) {
+      if (algorithm.getHeaderName().equals(name) && isAllowed(algorithm)) {
+        return algorithm;
+      }
+    }
+
+    throw new UnsupportedJwtException("Token algorithm " + name + " is not allowed for the verification key");
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private boolean isAllowed(JwsAlgorithm algorithm) {
+    return switch (keyAlgorithm) {
+      // Same rule as jjwt: the key must be at least as long as the digest
+      case HS256, HS384, HS512 -> algorithm.isMac() && algorithm.ordinal() <= keyAlgorithm.ordinal();
+      case RS256, RS384, RS512 -> algorithm == JwsAlgorithm.RS256
+          || algorithm == JwsAlgorithm.RS384
+          || algorithm == JwsAlgorithm.RS512;
+      default -> algorithm == keyAlgorithm;
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void validateTimes(JwtClaimsViewImpl claims) {
+    long now = clock.millis();
+
+    Long expiration = claims.getLong(Claims.EXPIRATION);
+    if (expiration != null && now > expiration * 1000) {
+      throw new ExpiredJwtException(null, null, "Token has expired");
+    }
+
+    Long notBefore = claims.getLong(Claims.NOT_BEFORE);
+    if (notBefore != null && now < notBefore * 1000) {
+      throw new PrematureJwtException(null, null, "Token is not yet valid");
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static TokenMalformedException malformed() {
+    return new TokenMalformedException("Token is malformed", false);
+  }
+
+  // =============================================================================
+
+  private VerificationContext acquire(JwsAlgorithm algorithm) {
+    VerificationContext context = algorithm == keyAlgorithm ? contexts.poll() : null;
+
+    if (context != null) {
+      pooledContexts.decrementAndGet();
+      return context;
+    }
+
+    try {
+      return new VerificationContext(algorithm);
+    } catch (GeneralSecurityException e) {
+      throw new UnsupportedJwtException("Unable to initialize token verifier", e);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void release(VerificationContext context) {
+    // Only contexts for the key's own algorithm are worth keeping
+    if (context.algorithm != keyAlgorithm) {
+      return;
+    }
+
+    if (pooledContexts.incrementAndGet() <= MAX_POOLED_CONTEXTS) {
+      contexts.offer(context);
+    } else {
+      pooledContexts.decrementAndGet();
+    }
+  }
+
+  // =============================================================================
+
+  private final class VerificationContext {
+
+    private final JwsAlgorithm algorithm;
+    private final Mac mac;
+    private final Signature signature;
+    private final byte[] expectedMac;
+    private byte[] signingInput = new byte[512];
+    private byte[] signatureBytes = new byte[128];
+
+    // ---------------------------------------------------------------------------
+
+    VerificationContext(JwsAlgorithm algorithm) throws GeneralSecurityException {
+      this.algorithm = algorithm;
+
+      if (algorithm.isMac()) {
+        mac = Mac.getInstance(algorithm.getJcaName());
+        mac.init(key);
+        signature = null;
+        expectedMac = new byte[mac.getMacLength()];
+      } else {
+        mac = null;
+        signature = Signature.getInstance(algorithm.getJcaName());
+        signature.initVerify((PublicKey) key);
+        expectedMac = null;
+      }
+    }
+
+    // ---------------------------------------------------------------------------
+
+    boolean verify(String token, int signingInputLength) throws GeneralSecurityException {
+      if (signingInput.length < signingInputLength) {
+        signingInput = new byte[Math.max(signingInputLength, signingInput.length * 2)];
+      }
+
+      // The token was checked to be Base64Url and dots, so every char is a single ASCII byte
+      for (int i = 0; i < signingInputLength; i++) {
+        signingInput[i] = (byte) token.charAt(i);
+      }
+
+      int signatureLength = Base64Url.decodedLength(token.length() - signingInputLength - 1);
+      if (signatureLength < 0) {
+        return false;
+      }
+      if (signatureBytes.length < signatureLength) {
+        signatureBytes = Arrays.copyOf(signatureBytes, signatureLength);
+      }
+      if (Base64Url.decode(token, signingInputLength + 1, token.length(), signatureBytes, 0) < 0) {
+        return false;
+      }
+
+      if (mac != null) {
+        return verifyMac(signingInputLength, signatureLength);
+      }
+
+      signature.update(signingInput, 0, signingInputLength);
+      return signature.verify(signatureBytes, 0, signatureLength);
+    }
+
+    // ---------------------------------------------------------------------------
+
+    private boolean verifyMac(int signingInputLength, int signatureLength) throws GeneralSecurityException {
+      mac.update(signingInput, 0, signingInputLength);
+      mac.doFinal(expectedMac, 0);
+
+      // Constant-time comparison
+      int difference = expectedMac.length ^ signatureLength;
+      for (int i = 0; i < expectedMac.length; i++) {
+        difference |= expectedMac[i] ^ (i < signatureLength ? signatureBytes[i] : 0);
+      }
+      return difference == 0;
+    }
+
+  }
+
+}
@@ -1,17 +1,46 @@
 package dev.hireben.demo.common_libs.jwt;
 
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 import javax.crypto.SecretKey;
 
+import dev.hireben.demo.common_libs.constant.AuthClaimKey;
+import dev.hireben.demo.common_libs.jwt.api.CachingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwksSource;
+import dev.hireben.demo.common_libs.jwt.api.JwksVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimDictionary;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsViewVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwtIdGenerator;
 import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtRevocationSource;
+import dev.hireben.demo.common_libs.jwt.api.JwtRevocationStore;
+import dev.hireben.demo.common_libs.jwt.api.JwtRoutingTable;
+import dev.hireben.demo.common_libs.jwt.api.JwtValidationPolicy;
 import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.OffloadingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.PreValidatingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.RoutingJwtVerifier;
+import dev.hireben.demo.common_libs.reader.KeyReader;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class JwtClients {
 
+  private static final int WARM_UP_ITERATIONS = 2_000;
+  private static final String WARM_UP_AUDIENCE = "warm-up";
+
+  // =============================================================================
+
   public JwtVerifier newVerifier() {
     return new JwtVerifierImpl();
   }
@@ -24,12 +53,134 @@ public class JwtClients {
 
   // -----------------------------------------------------------------------------
 
+  public PreValidatingJwtVerifier newVerifierWithSymmetricKey(SecretKey key, JwtValidationPolicy policy) {
+    return new PreValidatingJwtVerifierImpl(new JwtVerifierImpl(key, policy), policy, Clock.systemUTC());
+  }
+
+  // -----------------------------------------------------------------------------
+
   public JwtVerifier newVerifierWithPublicKey(PublicKey key) {
     return new JwtVerifierImpl(key);
   }
 
   // -----------------------------------------------------------------------------
 
+  public PreValidatingJwtVerifier newVerifierWithPublicKey(PublicKey key, JwtValidationPolicy policy) {
+    return new PreValidatingJwtVerifierImpl(new JwtVerifierImpl(key, policy), policy, Clock.systemUTC());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtVerifier newVerifierWithPublicKeyPem(String pem)
+      throws NoSuchAlgorithmException, InvalidKeySpecException {
+    return new JwtVerifierImpl(KeyReader.readPublicKeyX509(pem));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtVerifier newVerifierWithPublicKeySupplier(Supplier<PublicKey> keySupplier) {
+    return new KeySupplierJwtVerifierImpl<>(keySupplier, JwtVerifierImpl::new);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtClaimsViewVerifier newClaimsViewVerifierWithSymmetricKey(SecretKey key) {
+    return new JwtClaimsViewVerifierImpl(key, Clock.systemUTC());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtClaimsViewVerifier newClaimsViewVerifierWithPublicKey(PublicKey key) {
+    return new JwtClaimsViewVerifierImpl(key, Clock.systemUTC());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwksVerifier newJwksVerifier(JwksSource source, Duration refreshInterval) {
+    return new JwksVerifierImpl(source, refreshInterval, Duration.ofSeconds(10));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public PreValidatingJwtVerifier newPreValidatingVerifier(JwtVerifier delegate, JwtValidationPolicy policy) {
+    return new PreValidatingJwtVerifierImpl(delegate, policy, Clock.systemUTC());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public RoutingJwtVerifier newRoutingVerifier(JwtRoutingTable routes) {
+    return new RoutingJwtVerifierImpl(routes);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtVerifier newAliasingVerifier(JwtVerifier delegate, JwtClaimDictionary dictionary) {
+    return new AliasingJwtVerifierImpl(delegate, dictionary);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtClaimsViewVerifier newAliasingClaimsViewVerifier(JwtClaimsViewVerifier delegate,
+      JwtClaimDictionary dictionary) {
+    return new AliasingJwtClaimsViewVerifierImpl(delegate, dictionary);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public CachingJwtVerifier newCachingVerifier(JwtVerifier delegate, int maximumSize, Duration maximumTtl) {
+    return new CachingJwtVerifierImpl(delegate, maximumSize, maximumTtl, Clock.systemUTC());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public OffloadingJwtVerifier newOffloadingVerifier(JwtVerifier delegate, int maxPending, Duration acquireTimeout) {
+    int threads = Runtime.getRuntime().availableProcessors();
+    return new OffloadingJwtVerifierImpl(delegate, threads, Math.max(maxPending, threads), acquireTimeout);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public OffloadingJwtVerifier newOffloadingVerifier(JwtVerifier delegate, int threads, int maxPending,
+      Duration acquireTimeout) {
+    return new OffloadingJwtVerifierImpl(delegate, threads, maxPending, acquireTimeout);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public OffloadingJwtVerifier newOffloadingVerifier(JwtVerifier delegate, int threads, int maxPending,
+      Duration acquireTimeout, MeterRegistry registry) {
+    return new OffloadingJwtVerifierImpl(delegate, threads, maxPending, acquireTimeout,
+        registry != null ? InstrumentedJwtVerifierImpl.queueTimeRecorder(registry) : null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtRevocationStore newRevocationStore(int expectedRevocations) {
+    return new BloomJwtRevocationStore(null, Duration.ofMinutes(1), expectedRevocations, Clock.systemUTC());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtRevocationStore newRevocationStore(JwtRevocationSource source, Duration pollInterval,
+      int expectedRevocations) {
+    Objects.requireNonNull(source, "Revocation source must not be null");
+    return new BloomJwtRevocationStore(source, pollInterval, expectedRevocations, Clock.systemUTC());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtVerifier newRevocationCheckingVerifier(JwtVerifier delegate, JwtRevocationStore store) {
+    return new RevocationCheckingJwtVerifierImpl(delegate, store);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtVerifier newInstrumentedVerifier(JwtVerifier delegate, MeterRegistry registry) {
+    return registry != null ? new InstrumentedJwtVerifierImpl(delegate, registry) : delegate;
+  }
+
+  // -----------------------------------------------------------------------------
+
   public JwtIssuer newIssuer(String issuer) {
     return new JwtIssuerImpl(issuer);
   }
@@ -42,8 +193,161 @@ public class JwtClients {
 
   // -----------------------------------------------------------------------------
 
+  public JwtIssuer newIssuerWithSymmetricKey(String issuer, SecretKey key, JwtIdGenerator idGenerator) {
+    return new JwtIssuerImpl(issuer, key, idGenerator);
+  }
+
+  // -----------------------------------------------------------------------------
+
   public JwtIssuer newIssuerWithPrivateKey(String issuer, PrivateKey key) {
     return new JwtIssuerImpl(issuer, key);
   }
 
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newIssuerWithPrivateKey(String issuer, PrivateKey key, String keyId) {
+    return new JwtIssuerImpl(issuer, key, keyId);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newIssuerWithPrivateKey(String issuer, PrivateKey key, String keyId,
+      JwtIdGenerator idGenerator) {
+    return new JwtIssuerImpl(issuer, key, keyId, idGenerator);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newIssuerWithPrivateKeyPem(String issuer, String pem)
+      throws NoSuchAlgorithmException, InvalidKeySpecException {
+    return new JwtIssuerImpl(issuer, KeyReader.readPrivateKeyPkcs8(pem));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newIssuerWithPrivateKeyPem(String issuer, String pem, String keyId)
+      throws NoSuchAlgorithmException, InvalidKeySpecException {
+    return new JwtIssuerImpl(issuer, KeyReader.readPrivateKeyPkcs8(pem), keyId);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newIssuerWithPrivateKeySupplier(String issuer, Supplier<PrivateKey> keySupplier) {
+    return new KeySupplierJwtIssuerImpl<>(keySupplier, key -> new JwtIssuerImpl(issuer, key));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newDirectIssuerWithSymmetricKey(String issuer, SecretKey key) {
+    return new DirectJwtIssuerImpl(issuer, key, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newDirectIssuerWithSymmetricKey(String issuer, SecretKey key, JwtIdGenerator idGenerator) {
+    return new DirectJwtIssuerImpl(issuer, key, null, idGenerator);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newDirectIssuerWithPrivateKey(String issuer, PrivateKey key) {
+    return new DirectJwtIssuerImpl(issuer, key, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newDirectIssuerWithPrivateKey(String issuer, PrivateKey key, String keyId) {
+    return new DirectJwtIssuerImpl(issuer, key, keyId);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newDirectIssuerWithPrivateKey(String issuer, PrivateKey key, String keyId,
+      JwtIdGenerator idGenerator) {
+    return new DirectJwtIssuerImpl(issuer, key, keyId, idGenerator);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newDirectIssuerWithPrivateKeyPem(String issuer, String pem, String keyId)
+      throws NoSuchAlgorithmException, InvalidKeySpecException {
+    return new DirectJwtIssuerImpl(issuer, KeyReader.readPrivateKeyPkcs8(pem), keyId);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newDirectIssuerWithPrivateKeySupplier(String issuer, Supplier<PrivateKey> keySupplier,
+      String keyId) {
+    return new KeySupplierJwtIssuerImpl<>(keySupplier, key -> new DirectJwtIssuerImpl(issuer, key, keyId));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newAliasingIssuer(JwtIssuer delegate, JwtClaimDictionary dictionary) {
+    return new AliasingJwtIssuerImpl(delegate, dictionary);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public JwtIssuer newInstrumentedIssuer(JwtIssuer delegate, MeterRegistry registry) {
+    return registry != null ? new InstrumentedJwtIssuerImpl(delegate, registry) : delegate;
+  }
+
+  // =============================================================================
+
+  public void warmUp(JwtIssuer issuer, JwtVerifier verifier) {
+    warmUp(issuer, verifier, WARM_UP_ITERATIONS);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public void warmUp(JwtIssuer issuer, JwtVerifier verifier, int iterations) {
+    warmUp(issuer, verifier, WARM_UP_AUDIENCE, iterations);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public void warmUp(JwtIssuer issuer, JwtVerifier verifier, String audience) {
+    warmUp(issuer, verifier, audience, WARM_UP_ITERATIONS);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public void warmUp(JwtIssuer issuer, JwtVerifier verifier, String audience, int iterations) {
+    Objects.requireNonNull(issuer, "Issuer must not be null");
+    Objects.requireNonNull(audience, "Audience must not be null");
+    requirePositiveIterations(iterations);
+
+    // Policy verifiers reject a foreign audience before the signature is ever checked
+    Map<String, Object> claims = Map.of(AuthClaimKey.GROUP, List.of("warm-up"));
+
+    for (int i = 0; i < iterations; i++) {
+      String token = issuer.issueToken("warm-up", List.of(audience), claims, Duration.ofMinutes(1), null);
+      if (verifier != null) {
+        verifier.verify(token);
+      }
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public void warmUp(JwtVerifier verifier, String sampleToken, int iterations) {
+    Objects.requireNonNull(verifier, "Verifier must not be null");
+    Objects.requireNonNull(sampleToken, "Sample token must not be null");
+    requirePositiveIterations(iterations);
+
+    // Rejections still load the parser, key and JSON machinery
+    for (int i = 0; i < iterations; i++) {
+      verifier.verify(sampleToken);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void requirePositiveIterations(int iterations) {
+    if (iterations <= 0) {
+      throw new IllegalArgumentException("Warm-up iterations must be positive");
+    }
+  }
+
 }
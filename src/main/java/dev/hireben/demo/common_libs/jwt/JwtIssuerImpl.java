@@ -5,14 +5,17 @@ import java.time.Instant;
 import java.time.temporal.TemporalAmount;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import javax.crypto.SecretKey;
 
+import dev.hireben.demo.common_libs.jwt.api.JwtIdGenerator;
 import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtTokenSpec;
 import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
 import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
@@ -20,25 +23,49 @@ import io.jsonwebtoken.Jwts;
 final class JwtIssuerImpl implements JwtIssuer {
 
   private final Supplier<JwtBuilder> builder;
+  private final JwtIdGenerator idGenerator;
 
   // =============================================================================
 
   JwtIssuerImpl(String issuer) {
     builder = () -> Jwts.builder().issuer(issuer);
+    idGenerator = StripedJwtIdGenerator.DEFAULT;
   }
 
   // -----------------------------------------------------------------------------
 
   JwtIssuerImpl(String issuer, SecretKey key) {
+    this(issuer, key, StripedJwtIdGenerator.DEFAULT);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  JwtIssuerImpl(String issuer, SecretKey key, JwtIdGenerator idGenerator) {
     Objects.requireNonNull(key, "Symmetric key must not be null");
-    builder = () -> Jwts.builder().signWith(key).issuer(issuer);
+    this.builder = () -> Jwts.builder().signWith(key).issuer(issuer);
+    this.idGenerator = Objects.requireNonNull(idGenerator, "Id generator must not be null");
   }
 
   // -----------------------------------------------------------------------------
 
   JwtIssuerImpl(String issuer, PrivateKey key) {
+    this(issuer, key, null, StripedJwtIdGenerator.DEFAULT);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  JwtIssuerImpl(String issuer, PrivateKey key, String keyId) {
+    this(issuer, key, Objects.requireNonNull(keyId, "Key id must not be null"), StripedJwtIdGenerator.DEFAULT);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  JwtIssuerImpl(String issuer, PrivateKey key, String keyId, JwtIdGenerator idGenerator) {
     Objects.requireNonNull(key, "Private key must not be null");
-    builder = () -> Jwts.builder().signWith(key).issuer(issuer);
+    this.builder = keyId != null
+        ? () -> Jwts.builder().header().keyId(keyId).and().signWith(key).issuer(issuer)
+        : () -> Jwts.builder().signWith(key).issuer(issuer);
+    this.idGenerator = Objects.requireNonNull(idGenerator, "Id generator must not be null");
   }
 
   // =============================================================================
@@ -51,7 +78,41 @@ final class JwtIssuerImpl implements JwtIssuer {
       TemporalAmount ttl,
       Instant nbf) {
 
+    return issueToken(subject, audiences, claims, ttl, nbf, Instant.now());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs) {
+    Instant now = Instant.now();
+    return specs.stream().map(spec -> issueToken(spec, now)).toList();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs, Executor executor) {
     Instant now = Instant.now();
+    return JwtBatches.issue(specs, executor, chunk -> chunk.stream().map(spec -> issueToken(spec, now)).toList());
+  }
+
+  // =============================================================================
+
+  private String issueToken(JwtTokenSpec spec, Instant now) {
+    return issueToken(spec.getSubject(), spec.getAudiences(), spec.getClaims(), spec.getTtl(), spec.getNbf(), now);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private String issueToken(
+      String subject,
+      Collection<String> audiences,
+      Map<String, Object> claims,
+      TemporalAmount ttl,
+      Instant nbf,
+      Instant now) {
+
     Instant tokenEffective = now;
 
     JwtBuilder jwt = builder.get();
@@ -69,7 +130,7 @@ final class JwtIssuerImpl implements JwtIssuer {
       jwt.expiration(Date.from(expAt));
     }
 
-    jwt.id(UUID.randomUUID().toString())
+    jwt.id(idGenerator.nextId())
         .subject(subject)
         .issuedAt(Date.from(now));
 
@@ -1,41 +1,66 @@
 package dev.hireben.demo.common_libs.jwt;
 
+import java.security.Key;
 import java.security.PublicKey;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.crypto.SecretKey;
 
+import dev.hireben.demo.common_libs.jwt.api.JwtRejectionReason;
+import dev.hireben.demo.common_libs.jwt.api.JwtValidationPolicy;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
 import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Deserializer;
 
 final class JwtVerifierImpl implements JwtVerifier {
 
+  private final Key key;
+  private final JwtValidationPolicy policy;
   private final boolean secured;
   private final JwtParser parser;
 
   // =============================================================================
 
   JwtVerifierImpl() {
-    secured = false;
-    parser = Jwts.parser().unsecured().build();
+    this(null, null, null);
   }
 
   // -----------------------------------------------------------------------------
 
   JwtVerifierImpl(SecretKey key) {
-    Objects.requireNonNull(key, "Symmetric key must not be null");
-    secured = true;
-    parser = Jwts.parser().verifyWith(key).build();
+    this(key, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  JwtVerifierImpl(SecretKey key, JwtValidationPolicy policy) {
+    this(Objects.requireNonNull(key, "Symmetric key must not be null"), policy, null);
   }
 
   // -----------------------------------------------------------------------------
 
   JwtVerifierImpl(PublicKey key) {
-    Objects.requireNonNull(key, "Public key must not be null");
-    secured = true;
-    parser = Jwts.parser().verifyWith(key).build();
+    this(key, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  JwtVerifierImpl(PublicKey key, JwtValidationPolicy policy) {
+    this(Objects.requireNonNull(key, "Public key must not be null"), policy, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private JwtVerifierImpl(Key key, JwtValidationPolicy policy, Deserializer<Map<String, ?>> deserializer) {
+    this.key = key;
+    this.policy = policy;
+    this.secured = key != null;
+    this.parser = newParser(key, policy, deserializer);
   }
 
   // =============================================================================
@@ -45,4 +70,53 @@ final class JwtVerifierImpl implements JwtVerifier {
     return secured ? parser.parseSignedClaims(token).getPayload() : parser.parseUnsecuredClaims(token).getPayload();
   }
 
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public JwtVerification verify(String token) {
+    if (!CompactTokens.isWellFormed(token, secured)) {
+      return new JwtVerification.Rejected(JwtRejectionReason.MALFORMED, "Token is malformed");
+    }
+    return JwtVerifier.super.verify(token);
+  }
+
+  // =============================================================================
+
+  JwtVerifierImpl withDeserializer(Deserializer<Map<String, ?>> deserializer) {
+    return new JwtVerifierImpl(key, policy, deserializer);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static JwtParser newParser(Key key, JwtValidationPolicy policy,
+      Deserializer<Map<String, ?>> deserializer) {
+    JwtParserBuilder builder = Jwts.parser();
+
+    if (deserializer != null) {
+      builder.json(deserializer);
+    }
+
+    // Mirror the pre-crypto checks so both stages agree on what is acceptable
+    if (policy != null) {
+      if (policy.getClockSkew().toNanosPart() != 0) {
+        // jjwt only takes whole seconds; truncating would loosen or tighten the pre-check's window
+        throw new IllegalArgumentException("Clock skew must be a whole number of seconds");
+      }
+      builder.clockSkewSeconds(policy.getClockSkew().toSeconds());
+      if (policy.getRequiredIssuer() != null) {
+        builder.requireIssuer(policy.getRequiredIssuer());
+      }
+      if (policy.getRequiredAudience() != null) {
+        builder.requireAudience(policy.getRequiredAudience());
+      }
+    }
+
+    return switch (key) {
+      case null -> builder.unsecured().build();
+      case SecretKey secretKey -> builder.verifyWith(secretKey).build();
+      case PublicKey publicKey -> builder.verifyWith(publicKey).build();
+      default -> throw new IllegalArgumentException("Unsupported verification key: " + key.getAlgorithm());
+    };
+  }
+
 }
@@ -0,0 +1,84 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.security.Key;
+import java.time.Instant;
+import java.time.temporal.TemporalAmount;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtTokenSpec;
+
+final class KeySupplierJwtIssuerImpl<K extends Key> implements JwtIssuer {
+
+  private final Supplier<K> keySupplier;
+  private final Function<K, JwtIssuer> factory;
+  private volatile Bound<K> bound;
+
+  // =============================================================================
+
+  KeySupplierJwtIssuerImpl(Supplier<K> keySupplier, Function<K, JwtIssuer> factory) {
+    this.keySupplier = Objects.requireNonNull(keySupplier, "Key supplier must not be null");
+    this.factory = factory;
+    this.bound = bind(keySupplier.get());
+  }
+
+  // =============================================================================
+
+  @Override
+  public String issueToken(
+      String subject,
+      Collection<String> audiences,
+      Map<String, Object> claims,
+      TemporalAmount ttl,
+      Instant nbf) {
+
+    return current().issueToken(subject, audiences, claims, ttl, nbf);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs) {
+    return current().issueTokens(specs);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public List<String> issueTokens(List<JwtTokenSpec> specs, Executor executor) {
+    return current().issueTokens(specs, executor);
+  }
+
+  // =============================================================================
+
+  private JwtIssuer current() {
+    K key = keySupplier.get();
+    Bound<K> current = bound;
+
+    if (current.key() != key) {
+      // Racing threads may each build an issuer for the new key, the last write wins
+      current = bind(key);
+      bound = current;
+    }
+
+    return current.issuer();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private Bound<K> bind(K key) {
+    return new Bound<>(key, factory.apply(Objects.requireNonNull(key, "Key must not be null")));
+  }
+
+  // =============================================================================
+
+  private record Bound<K>(K key, JwtIssuer issuer) {
+  }
+
+}
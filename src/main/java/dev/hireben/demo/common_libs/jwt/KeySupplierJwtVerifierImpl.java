@@ -0,0 +1,66 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.security.Key;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+
+final class KeySupplierJwtVerifierImpl<K extends Key> implements JwtVerifier {
+
+  private final Supplier<K> keySupplier;
+  private final Function<K, JwtVerifier> factory;
+  private volatile Bound<K> bound;
+
+  // =============================================================================
+
+  KeySupplierJwtVerifierImpl(Supplier<K> keySupplier, Function<K, JwtVerifier> factory) {
+    this.keySupplier = Objects.requireNonNull(keySupplier, "Key supplier must not be null");
+    this.factory = factory;
+    this.bound = bind(keySupplier.get());
+  }
+
+  // =============================================================================
+
+  @Override
+  public Claims verifyToken(String token) {
+    return current().verifyToken(token);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public JwtVerification verify(String token) {
+    return current().verify(token);
+  }
+
+  // =============================================================================
+
+  private JwtVerifier current() {
+    K key = keySupplier.get();
+    Bound<K> current = bound;
+
+    if (current.key() != key) {
+      // Racing threads may each build a verifier for the new key, the last write wins
+      current = bind(key);
+      bound = current;
+    }
+
+    return current.verifier();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private Bound<K> bind(K key) {
+    return new Bound<>(key, factory.apply(Objects.requireNonNull(key, "Key must not be null")));
+  }
+
+  // =============================================================================
+
+  private record Bound<K>(K key, JwtVerifier verifier) {
+  }
+
+}
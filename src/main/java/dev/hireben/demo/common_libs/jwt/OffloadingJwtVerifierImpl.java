@@ -0,0 +1,245 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.OffloadingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenVerificationBusyException;
+import io.jsonwebtoken.Claims;
+
+final class OffloadingJwtVerifierImpl implements OffloadingJwtVerifier {
+
+  private final JwtVerifier delegate;
+  private final ExecutorService executor;
+  private final Semaphore permits;
+  private final int maxPending;
+  private final long acquireTimeoutNanos;
+  private final LongConsumer queueTimeRecorder;
+
+  private final Map<String, CompletableFuture<Claims>> inFlight = new ConcurrentHashMap<>();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder shared = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder queueTimeNanos = new LongAdder();
+
+  // =============================================================================
+
+  OffloadingJwtVerifierImpl(JwtVerifier delegate, int threads, int maxPending, Duration acquireTimeout) {
+    this(delegate, threads, maxPending, acquireTimeout, null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  OffloadingJwtVerifierImpl(JwtVerifier delegate, int threads, int maxPending, Duration acquireTimeout,
+      LongConsumer queueTimeRecorder) {
+    Objects.requireNonNull(delegate, "Delegate verifier must not be null");
+    Objects.requireNonNull(acquireTimeout, "Acquire timeout must not be null");
+
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Thread count must be positive");
+    }
+
+    if (maxPending < threads) {
+      throw new IllegalArgumentException("Maximum pending verifications must not be less than the thread count");
+    }
+
+    if (acquireTimeout.isNegative()) {
+      throw new IllegalArgumentException("Acquire timeout must not be negative");
+    }
+
+    this.delegate = delegate;
+    this.executor = Executors.newFixedThreadPool(threads,
+        Thread.ofPlatform().name("jwt-verify-", 0).daemon().factory());
+    this.permits = new Semaphore(maxPending);
+    this.maxPending = maxPending;
+    this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    this.queueTimeRecorder = queueTimeRecorder;
+  }
+
+  // =============================================================================
+
+  @Override
+  public Claims verifyToken(String token) {
+    Objects.requireNonNull(token, "Token must not be null");
+
+    CompletableFuture<Claims> verification = new CompletableFuture<>();
+    CompletableFuture<Claims> existing = inFlight.putIfAbsent(token, verification);
+
+    if (existing != null) {
+      shared.increment();
+      return await(existing);
+    }
+
+    try {
+      submit(token, verification);
+    } catch (RuntimeException e) {
+      inFlight.remove(token, verification);
+      verification.completeExceptionally(e);
+      throw e;
+    }
+
+    return await(verification);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public long completedCount() {
+    return completed.sum();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public long sharedCount() {
+    return shared.sum();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public long rejectedCount() {
+    return rejected.sum();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public long totalQueueTimeNanos() {
+    return queueTimeNanos.sum();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public int pendingCount() {
+    // Single-flight waiters share a permit, so this counts queued and running verifications
+    return maxPending - permits.availablePermits();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void close() {
+    // Queued tasks never run, so their callers and single-flight waiters are released here
+    for (Runnable task : executor.shutdownNow()) {
+      if (task instanceof VerificationTask verificationTask) {
+        verificationTask.abandon();
+      }
+    }
+  }
+
+  // =============================================================================
+
+  private void submit(String token, CompletableFuture<Claims> verification) {
+    if (!acquirePermit()) {
+      rejected.increment();
+      throw new TokenVerificationBusyException("Token verification is overloaded", false);
+    }
+
+    try {
+      executor.execute(new VerificationTask(token, verification, System.nanoTime()));
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      throw new TokenVerificationBusyException("Token verification is shut down", false);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private boolean acquirePermit() {
+    try {
+      return permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static Claims await(CompletableFuture<Claims> verification) {
+    try {
+      return verification.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  // =============================================================================
+
+  private final class VerificationTask implements Runnable {
+
+    private final String token;
+    private final CompletableFuture<Claims> verification;
+    private final long enqueuedAt;
+
+    // ---------------------------------------------------------------------------
+
+    private VerificationTask(String token, CompletableFuture<Claims> verification, long enqueuedAt) {
+      this.token = token;
+      this.verification = verification;
+      this.enqueuedAt = enqueuedAt;
+    }
+
+    // ---------------------------------------------------------------------------
+
+    @Override
+    public void run() {
+      long queueTime = System.nanoTime() - enqueuedAt;
+      queueTimeNanos.add(queueTime);
+      if (queueTimeRecorder != null) {
+        queueTimeRecorder.accept(queueTime);
+      }
+
+      Claims claims = null;
+      Throwable failure = null;
+
+      try {
+        claims = delegate.verifyToken(token);
+      } catch (Throwable e) {
+        failure = e;
+      } finally {
+        // Released before completion, so a returning caller never observes its own permit
+        inFlight.remove(token, verification);
+        permits.release();
+        completed.increment();
+      }
+
+      if (failure != null) {
+        verification.completeExceptionally(failure);
+      } else {
+        verification.complete(claims);
+      }
+    }
+
+    // ---------------------------------------------------------------------------
+
+    private void abandon() {
+      inFlight.remove(token, verification);
+      permits.release();
+      verification.completeExceptionally(
+          new TokenVerificationBusyException("Token verification is shut down", false));
+    }
+
+  }
+
+}
@@ -0,0 +1,83 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.io.Reader;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import io.jsonwebtoken.io.Deserializer;
+
+final class PhaseTimingDeserializer implements Deserializer<Map<String, ?>> {
+
+  private static final ThreadLocal<PhaseMarks> MARKS = ThreadLocal.withInitial(PhaseMarks::new);
+
+  private final Deserializer<Map<String, ?>> delegate = loadDeserializer();
+
+  // =============================================================================
+
+  @Override
+  @Deprecated
+  public Map<String, ?> deserialize(byte[] bytes) {
+    long begin = System.nanoTime();
+    Map<String, ?> result = delegate.deserialize(bytes);
+    MARKS.get().deserialized(begin, System.nanoTime());
+    return result;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public Map<String, ?> deserialize(Reader reader) {
+    long begin = System.nanoTime();
+    Map<String, ?> result = delegate.deserialize(reader);
+    MARKS.get().deserialized(begin, System.nanoTime());
+    return result;
+  }
+
+  // =============================================================================
+
+  static PhaseMarks start() {
+    PhaseMarks marks = MARKS.get();
+    marks.start = System.nanoTime();
+    marks.calls = 0;
+    return marks;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @SuppressWarnings("unchecked")
+  private static Deserializer<Map<String, ?>> loadDeserializer() {
+    return ServiceLoader.load(Deserializer.class).findFirst()
+        .orElseThrow(() -> new IllegalStateException("No JWT JSON deserializer found on the classpath"));
+  }
+
+  // =============================================================================
+
+  // jjwt deserializes the header, then checks the signature, then deserializes the claims
+  static final class PhaseMarks {
+
+    long start;
+    long headerEnd;
+    long claimsStart;
+    long claimsEnd;
+    int calls;
+
+    // ---------------------------------------------------------------------------
+
+    boolean isComplete() {
+      return calls == 2;
+    }
+
+    // ---------------------------------------------------------------------------
+
+    private void deserialized(long begin, long end) {
+      if (++calls == 1) {
+        headerEnd = end;
+      } else {
+        claimsStart = begin;
+        claimsEnd = end;
+      }
+    }
+
+  }
+
+}
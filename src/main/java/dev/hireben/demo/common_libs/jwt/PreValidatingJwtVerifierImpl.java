@@ -0,0 +1,248 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtRejectionReason;
+import dev.hireben.demo.common_libs.jwt.api.JwtValidationPolicy;
+import dev.hireben.demo.common_libs.jwt.api.JwtValidationStage;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.PreValidatingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenVerificationBusyException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.PrematureJwtException;
+
+final class PreValidatingJwtVerifierImpl implements PreValidatingJwtVerifier {
+
+  private static final Map<JwtValidationStage, JwtVerification.Rejected> REJECTIONS = rejections();
+
+  private final JwtVerifier delegate;
+  private final String requiredIssuer;
+  private final String requiredAudience;
+  private final long clockSkewMillis;
+  private final int maxTokenLength;
+  private final Clock clock;
+
+  private final LongAdder[] rejected;
+  private final LongAdder passed;
+
+  // =============================================================================
+
+  PreValidatingJwtVerifierImpl(JwtVerifier delegate, JwtValidationPolicy policy, Clock clock) {
+    Objects.requireNonNull(delegate, "Delegate verifier must not be null");
+    Objects.requireNonNull(policy, "Validation policy must not be null");
+    Objects.requireNonNull(policy.getClockSkew(), "Clock skew must not be null");
+    Objects.requireNonNull(clock, "Clock must not be null");
+
+    if (policy.getClockSkew().isNegative()) {
+      throw new IllegalArgumentException("Clock skew must not be negative");
+    }
+
+    if (policy.getClockSkew().toNanosPart() != 0) {
+      throw new IllegalArgumentException("Clock skew must be a whole number of seconds");
+    }
+
+    if (policy.getMaxTokenLength() <= 0) {
+      throw new IllegalArgumentException("Maximum token length must be positive");
+    }
+
+    this.delegate = delegate;
+    this.requiredIssuer = policy.getRequiredIssuer();
+    this.requiredAudience = policy.getRequiredAudience();
+    this.clockSkewMillis = policy.getClockSkew().toMillis();
+    this.maxTokenLength = policy.getMaxTokenLength();
+    this.clock = clock;
+    this.rejected = new LongAdder[JwtValidationStage.values().length];
+    this.passed = new LongAdder();
+
+    for (int i = 0; i < rejected.length; i++) {
+      rejected[i] = new LongAdder();
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private PreValidatingJwtVerifierImpl(PreValidatingJwtVerifierImpl source, JwtVerifier delegate) {
+    this.delegate = delegate;
+    this.requiredIssuer = source.requiredIssuer;
+    this.requiredAudience = source.requiredAudience;
+    this.clockSkewMillis = source.clockSkewMillis;
+    this.maxTokenLength = source.maxTokenLength;
+    this.clock = source.clock;
+    this.rejected = source.rejected;
+    this.passed = source.passed;
+  }
+
+  // =============================================================================
+
+  @Override
+  public Claims verifyToken(String token) {
+    JwtValidationStage stage = precheck(token);
+
+    if (stage != null) {
+      rejected[stage.ordinal()].increment();
+      throw exceptionFor(stage);
+    }
+
+    passed.increment();
+
+    try {
+      return delegate.verifyToken(token);
+    } catch (TokenVerificationBusyException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      rejected[delegateStage(JwtRejectionReason.of(e)).ordinal()].increment();
+      throw e;
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public JwtVerification verify(String token) {
+    JwtValidationStage stage = precheck(token);
+
+    if (stage != null) {
+      rejected[stage.ordinal()].increment();
+      return REJECTIONS.get(stage);
+    }
+
+    passed.increment();
+
+    JwtVerification verification = delegate.verify(token);
+    if (verification instanceof JwtVerification.Rejected(JwtRejectionReason reason, String message)) {
+      rejected[delegateStage(reason).ordinal()].increment();
+    }
+    return verification;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public long rejectedCount(JwtValidationStage stage) {
+    return rejected[stage.ordinal()].sum();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public long passedCount() {
+    return passed.sum();
+  }
+
+  // =============================================================================
+
+  JwtVerifier delegate() {
+    return delegate;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  // Shares the policy and counters, so the original keeps reporting every verification
+  PreValidatingJwtVerifierImpl withDelegate(JwtVerifier delegate) {
+    Objects.requireNonNull(delegate, "Delegate verifier must not be null");
+    return new PreValidatingJwtVerifierImpl(this, delegate);
+  }
+
+  // =============================================================================
+
+  // Returns the failing stage, or null when the token is worth a signature check
+  private JwtValidationStage precheck(String token) {
+    if (token != null && token.length() > maxTokenLength) {
+      return JwtValidationStage.LENGTH;
+    }
+
+    if (token == null || token.isEmpty()
+        || !CompactTokens.isWellFormed(token, token.charAt(token.length() - 1) != '.')) {
+      return JwtValidationStage.STRUCTURE;
+    }
+
+    int headerEnd = token.indexOf('.');
+    int payloadEnd = token.indexOf('.', headerEnd + 1);
+
+    try {
+      return precheckClaims(new JwtClaimsViewImpl(JsonClaimsIndex.decode(token, headerEnd + 1, payloadEnd)));
+    } catch (JwtException | TokenMalformedException e) {
+      // Undecodable payloads and mistyped registered claims
+      return JwtValidationStage.STRUCTURE;
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private JwtValidationStage precheckClaims(JwtClaimsViewImpl claims) {
+    long now = clock.millis();
+
+    Long expiration = claims.getLong(Claims.EXPIRATION);
+    if (expiration != null && now - clockSkewMillis > expiration * 1000) {
+      return JwtValidationStage.EXPIRATION;
+    }
+
+    Long notBefore = claims.getLong(Claims.NOT_BEFORE);
+    if (notBefore != null && now + clockSkewMillis < notBefore * 1000) {
+      return JwtValidationStage.NOT_BEFORE;
+    }
+
+    if (requiredIssuer != null && !requiredIssuer.equals(claims.getIssuer())) {
+      return JwtValidationStage.ISSUER;
+    }
+
+    if (requiredAudience != null) {
+      List<String> audience = claims.getAudience();
+      if (!audience.contains(requiredAudience)) {
+        return JwtValidationStage.AUDIENCE;
+      }
+    }
+
+    return null;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  // Claims the pre-check already passed can still fail in the delegate, e.g. on revocation
+  private static JwtValidationStage delegateStage(JwtRejectionReason reason) {
+    return reason == JwtRejectionReason.BAD_SIGNATURE ? JwtValidationStage.SIGNATURE : JwtValidationStage.DELEGATE;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static RuntimeException exceptionFor(JwtValidationStage stage) {
+    String message = REJECTIONS.get(stage).message();
+    return switch (stage) {
+      case EXPIRATION -> new ExpiredJwtException(null, null, message);
+      case NOT_BEFORE -> new PrematureJwtException(null, null, message);
+      case ISSUER -> new IncorrectClaimException(null, null, Claims.ISSUER, null, message);
+      case AUDIENCE -> new IncorrectClaimException(null, null, Claims.AUDIENCE, null, message);
+      default -> new TokenMalformedException(message, false);
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static Map<JwtValidationStage, JwtVerification.Rejected> rejections() {
+    Map<JwtValidationStage, JwtVerification.Rejected> rejections = new EnumMap<>(JwtValidationStage.class);
+    rejections.put(JwtValidationStage.LENGTH,
+        new JwtVerification.Rejected(JwtRejectionReason.MALFORMED, "Token exceeds the maximum length"));
+    rejections.put(JwtValidationStage.STRUCTURE,
+        new JwtVerification.Rejected(JwtRejectionReason.MALFORMED, "Token is malformed"));
+    rejections.put(JwtValidationStage.EXPIRATION,
+        new JwtVerification.Rejected(JwtRejectionReason.EXPIRED, "Token has expired"));
+    rejections.put(JwtValidationStage.NOT_BEFORE,
+        new JwtVerification.Rejected(JwtRejectionReason.PREMATURE, "Token is not yet valid"));
+    rejections.put(JwtValidationStage.ISSUER,
+        new JwtVerification.Rejected(JwtRejectionReason.INVALID_CLAIMS, "Token issuer is not accepted"));
+    rejections.put(JwtValidationStage.AUDIENCE,
+        new JwtVerification.Rejected(JwtRejectionReason.INVALID_CLAIMS, "Token audience is not accepted"));
+    return rejections;
+  }
+
+}
@@ -0,0 +1,35 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.util.Objects;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtRevocationStore;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenRevokedException;
+import io.jsonwebtoken.Claims;
+
+final class RevocationCheckingJwtVerifierImpl implements JwtVerifier {
+
+  private final JwtVerifier delegate;
+  private final JwtRevocationStore store;
+
+  // =============================================================================
+
+  RevocationCheckingJwtVerifierImpl(JwtVerifier delegate, JwtRevocationStore store) {
+    this.delegate = Objects.requireNonNull(delegate, "Delegate verifier must not be null");
+    this.store = Objects.requireNonNull(store, "Revocation store must not be null");
+  }
+
+  // =============================================================================
+
+  @Override
+  public Claims verifyToken(String token) {
+    Claims claims = delegate.verifyToken(token);
+
+    if (store.isRevoked(claims.getId())) {
+      throw new TokenRevokedException("Token has been revoked", false);
+    }
+
+    return claims;
+  }
+
+}
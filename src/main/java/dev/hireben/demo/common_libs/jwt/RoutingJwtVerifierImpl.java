@@ -0,0 +1,135 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.util.Objects;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtRejectionReason;
+import dev.hireben.demo.common_libs.jwt.api.JwtRouteKey;
+import dev.hireben.demo.common_libs.jwt.api.JwtRoutingTable;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.RoutingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.JwtException;
+
+final class RoutingJwtVerifierImpl implements RoutingJwtVerifier {
+
+  private static final JwtVerification.Rejected MALFORMED = new JwtVerification.Rejected(
+      JwtRejectionReason.MALFORMED, "Token is malformed");
+  private static final JwtVerification.Rejected UNKNOWN_ISSUER = new JwtVerification.Rejected(
+      JwtRejectionReason.INVALID_CLAIMS, "Token issuer is not recognized");
+
+  private volatile JwtRoutingTable routes;
+
+  // =============================================================================
+
+  RoutingJwtVerifierImpl(JwtRoutingTable routes) {
+    replaceRoutes(routes);
+  }
+
+  // =============================================================================
+
+  @Override
+  public Claims verifyToken(String token) {
+    Route route = route(token);
+
+    if (route == null) {
+      throw new TokenMalformedException(MALFORMED.message(), false);
+    }
+
+    if (route.verifier() == null) {
+      throw new IncorrectClaimException(null, null, Claims.ISSUER, null, UNKNOWN_ISSUER.message());
+    }
+
+    return checkIssuer(route, route.verifier().verifyToken(token));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public JwtVerification verify(String token) {
+    Route route = route(token);
+
+    if (route == null) {
+      return MALFORMED;
+    }
+
+    if (route.verifier() == null) {
+      return UNKNOWN_ISSUER;
+    }
+
+    JwtVerification verification = route.verifier().verify(token);
+
+    if (verification instanceof JwtVerification.Verified(Claims claims)
+        && !route.issuer().equals(claims.getIssuer())) {
+      return UNKNOWN_ISSUER;
+    }
+
+    return verification;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public JwtRoutingTable routes() {
+    return routes;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void replaceRoutes(JwtRoutingTable routes) {
+    this.routes = Objects.requireNonNull(routes, "Routing table must not be null");
+  }
+
+  // =============================================================================
+
+  // Returns null for undecodable tokens, or a route without a verifier for unknown issuers
+  private Route route(String token) {
+    if (token == null || token.isEmpty()
+        || !CompactTokens.isWellFormed(token, token.charAt(token.length() - 1) != '.')) {
+      return null;
+    }
+
+    // Read the table once so a concurrent swap cannot mix two generations
+    JwtRoutingTable table = routes;
+    int headerEnd = token.indexOf('.');
+    int payloadEnd = token.indexOf('.', headerEnd + 1);
+
+    try {
+      String issuer = new JwtClaimsViewImpl(JsonClaimsIndex.decode(token, headerEnd + 1, payloadEnd)).getIssuer();
+      if (issuer == null) {
+        return new Route(null, null);
+      }
+
+      if (!table.getKeyRoutes().isEmpty()) {
+        String keyId = new JwtClaimsViewImpl(JsonClaimsIndex.decode(token, 0, headerEnd)).getString("kid");
+        JwtVerifier verifier = table.getKeyRoutes().get(new JwtRouteKey(issuer, keyId));
+        if (verifier != null) {
+          return new Route(issuer, verifier);
+        }
+      }
+
+      return new Route(issuer, table.getIssuers().get(issuer));
+    } catch (JwtException | TokenMalformedException e) {
+      return null;
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static Claims checkIssuer(Route route, Claims claims) {
+    // The route was chosen from unverified claims, so confirm it against the verified ones
+    if (!route.issuer().equals(claims.getIssuer())) {
+      throw new IncorrectClaimException(null, claims, Claims.ISSUER, claims.getIssuer(), UNKNOWN_ISSUER.message());
+    }
+    return claims;
+  }
+
+  // =============================================================================
+
+  private record Route(String issuer, JwtVerifier verifier) {
+  }
+
+}
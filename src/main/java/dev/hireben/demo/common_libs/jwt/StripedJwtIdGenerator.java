@@ -0,0 +1,94 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIdGenerator;
+
+final class StripedJwtIdGenerator implements JwtIdGenerator {
+
+  static final JwtIdGenerator DEFAULT = new StripedJwtIdGenerator(Runtime.getRuntime().availableProcessors() * 2);
+
+  private static final int ID_BYTES = 16;
+  private static final int BUFFERED_IDS = 256;
+
+  private final Stripe[] stripes;
+  private final int mask;
+
+  // =============================================================================
+
+  StripedJwtIdGenerator(int concurrency) {
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException("Concurrency must be positive");
+    }
+
+    int size = Integer.highestOneBit(concurrency - 1 | 1) << 1;
+    this.stripes = new Stripe[size];
+    this.mask = size - 1;
+
+    for (int i = 0; i < size; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  // =============================================================================
+
+  @Override
+  public String nextId() {
+    int home = (int) Thread.currentThread().threadId() & mask;
+
+    for (int i = 0; i <= mask; i++) {
+      Stripe stripe = stripes[(home + i) & mask];
+      if (stripe.tryLock()) {
+        return stripe.nextIdAndUnlock();
+      }
+    }
+
+    Stripe stripe = stripes[home];
+    stripe.lock();
+    return stripe.nextIdAndUnlock();
+  }
+
+  // =============================================================================
+
+  private static final class Stripe extends ReentrantLock {
+
+    private final SecureRandom random = newSecureRandom();
+    private final byte[] buffer = new byte[ID_BYTES * BUFFERED_IDS];
+    private final byte[] encoded = new byte[Base64Url.encodedLength(ID_BYTES)];
+    private int position = buffer.length;
+
+    // ---------------------------------------------------------------------------
+
+    String nextIdAndUnlock() {
+      try {
+        if (position == buffer.length) {
+          random.nextBytes(buffer);
+          position = 0;
+        }
+
+        Base64Url.encode(buffer, position, ID_BYTES, encoded, 0);
+        position += ID_BYTES;
+
+        return new String(encoded, StandardCharsets.US_ASCII);
+      } finally {
+        unlock();
+      }
+    }
+
+    // ---------------------------------------------------------------------------
+
+    private static SecureRandom newSecureRandom() {
+      try {
+        // Each stripe gets its own DRBG so stripes never share a lock with the system PRNG
+        return SecureRandom.getInstance("DRBG");
+      } catch (NoSuchAlgorithmException e) {
+        return new SecureRandom();
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,13 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+public interface CachingJwtVerifier extends JwtVerifier {
+
+  long hitCount();
+
+  long missCount();
+
+  long evictionCount();
+
+  int size();
+
+}
@@ -0,0 +1,50 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@FunctionalInterface
+public interface JwksSource {
+
+  String fetch() throws IOException;
+
+  // =============================================================================
+
+  static JwksSource fromFile(Path path) {
+    return () -> Files.readString(path);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  static JwksSource fromUri(URI uri) {
+    HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    HttpRequest request = HttpRequest.newBuilder(uri)
+        .timeout(Duration.ofSeconds(10))
+        .header("Accept", "application/json")
+        .GET()
+        .build();
+
+    return () -> {
+      try {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+          throw new IOException("JWKS endpoint responded with status " + response.statusCode());
+        }
+        return response.body();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while fetching JWKS", e);
+      }
+    };
+  }
+
+}
@@ -0,0 +1,10 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+public interface JwksVerifier extends JwtVerifier, AutoCloseable {
+
+  int keyCount();
+
+  @Override
+  void close();
+
+}
@@ -0,0 +1,19 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+@Value
+@Builder
+public class JwtClaimDictionary {
+  @Singular
+  Map<String, String> aliases;
+  @Singular
+  List<String> groups;
+  @Builder.Default
+  String groupMaskClaim = "gm";
+}
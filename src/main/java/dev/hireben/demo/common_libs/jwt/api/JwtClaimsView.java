@@ -0,0 +1,34 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface JwtClaimsView {
+
+  String getIssuer();
+
+  String getSubject();
+
+  List<String> getAudience();
+
+  String getId();
+
+  Instant getIssuedAt();
+
+  Instant getNotBefore();
+
+  Instant getExpiration();
+
+  List<String> getGroups();
+
+  // =============================================================================
+
+  boolean containsKey(String name);
+
+  String getString(String name);
+
+  Long getLong(String name);
+
+  List<String> getStringList(String name);
+
+}
@@ -0,0 +1,7 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+public interface JwtClaimsViewVerifier {
+
+  JwtClaimsView verifyClaimsView(String token);
+
+}
@@ -0,0 +1,16 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface JwtIdGenerator {
+
+  String nextId();
+
+  // =============================================================================
+
+  static JwtIdGenerator uuid() {
+    return () -> UUID.randomUUID().toString();
+  }
+
+}
@@ -3,7 +3,13 @@ package dev.hireben.demo.common_libs.jwt.api;
 import java.time.Instant;
 import java.time.temporal.TemporalAmount;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
 
 public interface JwtIssuer {
 
@@ -14,4 +20,33 @@ public interface JwtIssuer {
       TemporalAmount ttl,
       Instant nbf);
 
+  // =============================================================================
+
+  default List<String> issueTokens(List<JwtTokenSpec> specs) {
+    return specs.stream().map(this::issueToken).toList();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  default List<String> issueTokens(List<JwtTokenSpec> specs, Executor executor) {
+    List<CompletableFuture<String>> tokens = specs.stream()
+        .map(spec -> CompletableFuture.supplyAsync(() -> issueToken(spec), executor))
+        .toList();
+
+    try {
+      return tokens.stream().map(CompletableFuture::join).toList();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new TokenIssuanceFailException("Unable to issue token batch", e.getCause());
+    }
+  }
+
+  // =============================================================================
+
+  private String issueToken(JwtTokenSpec spec) {
+    return issueToken(spec.getSubject(), spec.getAudiences(), spec.getClaims(), spec.getTtl(), spec.getNbf());
+  }
+
 }
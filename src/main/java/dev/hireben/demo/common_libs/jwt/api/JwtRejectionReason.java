@@ -0,0 +1,39 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenRevokedException;
+import io.jsonwebtoken.ClaimJwtException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+public enum JwtRejectionReason {
+
+  MALFORMED,
+  EXPIRED,
+  PREMATURE,
+  BAD_SIGNATURE,
+  UNSUPPORTED,
+  INVALID_CLAIMS,
+  REVOKED,
+  INVALID;
+
+  // =============================================================================
+
+  public static JwtRejectionReason of(RuntimeException ex) {
+    return switch (ex) {
+      case ExpiredJwtException e -> EXPIRED;
+      case PrematureJwtException e -> PREMATURE;
+      case ClaimJwtException e -> INVALID_CLAIMS;
+      case SignatureException e -> BAD_SIGNATURE;
+      case MalformedJwtException e -> MALFORMED;
+      case TokenMalformedException e -> MALFORMED;
+      case TokenRevokedException e -> REVOKED;
+      case UnsupportedJwtException e -> UNSUPPORTED;
+      default -> INVALID;
+    };
+  }
+
+}
@@ -0,0 +1,13 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.time.Instant;
+
+import lombok.Value;
+
+@Value
+public class JwtRevocation {
+
+  String tokenId;
+  Instant expiresAt;
+
+}
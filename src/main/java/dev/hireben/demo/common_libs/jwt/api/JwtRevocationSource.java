@@ -0,0 +1,101 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@FunctionalInterface
+public interface JwtRevocationSource {
+
+  List<JwtRevocation> poll() throws IOException;
+
+  // =============================================================================
+
+  static JwtRevocationSource fromFile(Path path) {
+    return new JwtRevocationSource() {
+
+      private long offset;
+
+      @Override
+      public synchronized List<JwtRevocation> poll() throws IOException {
+        if (!Files.exists(path)) {
+          return List.of();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+          long size = channel.size();
+
+          if (size < offset) {
+            // The file was truncated or rotated, replay it from the start
+            offset = 0;
+          }
+
+          if (size == offset) {
+            return List.of();
+          }
+
+          ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size - offset));
+          while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) >= 0) {
+            // Read until the snapshot size is reached
+          }
+
+          byte[] bytes = buffer.array();
+          int end = bytes.length;
+          while (end > 0 && bytes[end - 1] != '\n') {
+            end--;
+          }
+
+          offset += end;
+          return parse(new String(bytes, 0, end, StandardCharsets.UTF_8));
+        }
+      }
+
+    };
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static List<JwtRevocation> parse(String lines) {
+    List<JwtRevocation> revocations = new ArrayList<>();
+
+    for (String line : lines.split("\n")) {
+      line = line.strip();
+
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+
+      // Entries are '<jti> <exp-epoch-seconds>', malformed lines are skipped so the feed keeps moving
+      String[] fields = line.split("\\s+");
+      if (fields.length == 2 && isNumeric(fields[1])) {
+        revocations.add(new JwtRevocation(fields[0], Instant.ofEpochSecond(Long.parseLong(fields[1]))));
+      }
+    }
+
+    return revocations;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static boolean isNumeric(String value) {
+    if (value.isEmpty() || value.length() > 18) {
+      return false;
+    }
+
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+}
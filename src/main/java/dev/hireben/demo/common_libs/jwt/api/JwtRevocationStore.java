@@ -0,0 +1,16 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.time.Instant;
+
+public interface JwtRevocationStore extends AutoCloseable {
+
+  boolean isRevoked(String tokenId);
+
+  void revoke(String tokenId, Instant expiresAt);
+
+  int size();
+
+  @Override
+  void close();
+
+}
@@ -0,0 +1,11 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import lombok.Value;
+
+@Value
+public class JwtRouteKey {
+
+  String issuer;
+  String keyId;
+
+}
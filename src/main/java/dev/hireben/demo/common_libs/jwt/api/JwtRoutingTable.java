@@ -0,0 +1,16 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+@Value
+@Builder
+public class JwtRoutingTable {
+  @Singular
+  Map<String, JwtVerifier> issuers;
+  @Singular
+  Map<JwtRouteKey, JwtVerifier> keyRoutes;
+}
@@ -0,0 +1,19 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.time.Instant;
+import java.time.temporal.TemporalAmount;
+import java.util.Collection;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class JwtTokenSpec {
+  String subject;
+  Collection<String> audiences;
+  Map<String, Object> claims;
+  TemporalAmount ttl;
+  Instant nbf;
+}
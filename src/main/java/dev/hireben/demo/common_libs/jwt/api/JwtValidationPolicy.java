@@ -0,0 +1,17 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import java.time.Duration;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class JwtValidationPolicy {
+  String requiredIssuer;
+  String requiredAudience;
+  @Builder.Default
+  Duration clockSkew = Duration.ZERO;
+  @Builder.Default
+  int maxTokenLength = 8192;
+}
@@ -0,0 +1,14 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+public enum JwtValidationStage {
+
+  LENGTH,
+  STRUCTURE,
+  ISSUER,
+  AUDIENCE,
+  EXPIRATION,
+  NOT_BEFORE,
+  SIGNATURE,
+  DELEGATE;
+
+}
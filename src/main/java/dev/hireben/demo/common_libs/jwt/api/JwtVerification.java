@@ -0,0 +1,15 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+import io.jsonwebtoken.Claims;
+
+public sealed interface JwtVerification {
+
+  record Verified(Claims claims) implements JwtVerification {
+  }
+
+  // -----------------------------------------------------------------------------
+
+  record Rejected(JwtRejectionReason reason, String message) implements JwtVerification {
+  }
+
+}
@@ -1,9 +1,25 @@
 package dev.hireben.demo.common_libs.jwt.api;
 
+import dev.hireben.demo.common_libs.exception.ApplicationException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenVerificationBusyException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 
 public interface JwtVerifier {
 
   Claims verifyToken(String token);
 
+  // =============================================================================
+
+  default JwtVerification verify(String token) {
+    try {
+      return new JwtVerification.Verified(verifyToken(token));
+    } catch (TokenVerificationBusyException e) {
+      // Overload says nothing about the token itself
+      throw e;
+    } catch (JwtException | ApplicationException | IllegalArgumentException e) {
+      return new JwtVerification.Rejected(JwtRejectionReason.of(e), e.getMessage());
+    }
+  }
+
 }
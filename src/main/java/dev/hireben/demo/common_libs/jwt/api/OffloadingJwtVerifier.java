@@ -0,0 +1,18 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+public interface OffloadingJwtVerifier extends JwtVerifier, AutoCloseable {
+
+  long completedCount();
+
+  long sharedCount();
+
+  long rejectedCount();
+
+  long totalQueueTimeNanos();
+
+  int pendingCount();
+
+  @Override
+  void close();
+
+}
@@ -0,0 +1,9 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+public interface PreValidatingJwtVerifier extends JwtVerifier {
+
+  long rejectedCount(JwtValidationStage stage);
+
+  long passedCount();
+
+}
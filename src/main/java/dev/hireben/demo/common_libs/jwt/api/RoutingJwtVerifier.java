@@ -0,0 +1,9 @@
+package dev.hireben.demo.common_libs.jwt.api;
+
+public interface RoutingJwtVerifier extends JwtVerifier {
+
+  JwtRoutingTable routes();
+
+  void replaceRoutes(JwtRoutingTable routes);
+
+}
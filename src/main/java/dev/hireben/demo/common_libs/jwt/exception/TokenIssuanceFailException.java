@@ -8,4 +8,16 @@ public final class TokenIssuanceFailException extends ApplicationException {
     super(message);
   }
 
+  // -----------------------------------------------------------------------------
+
+  public TokenIssuanceFailException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public TokenIssuanceFailException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
 }
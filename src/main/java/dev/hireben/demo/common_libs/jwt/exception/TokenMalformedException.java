@@ -8,4 +8,10 @@ public final class TokenMalformedException extends ApplicationException {
     super(message);
   }
 
+  // -----------------------------------------------------------------------------
+
+  public TokenMalformedException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
 }
@@ -0,0 +1,17 @@
+package dev.hireben.demo.common_libs.jwt.exception;
+
+import dev.hireben.demo.common_libs.exception.ApplicationException;
+
+public final class TokenRevokedException extends ApplicationException {
+
+  public TokenRevokedException(String message) {
+    super(message);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public TokenRevokedException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
+}
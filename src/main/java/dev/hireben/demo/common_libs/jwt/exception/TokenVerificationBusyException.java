@@ -0,0 +1,17 @@
+package dev.hireben.demo.common_libs.jwt.exception;
+
+import dev.hireben.demo.common_libs.exception.ApplicationException;
+
+public final class TokenVerificationBusyException extends ApplicationException {
+
+  public TokenVerificationBusyException(String message) {
+    super(message);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public TokenVerificationBusyException(String message, boolean writableStackTrace) {
+    super(message, writableStackTrace);
+  }
+
+}
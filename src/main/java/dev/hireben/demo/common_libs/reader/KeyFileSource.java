@@ -0,0 +1,165 @@
+package dev.hireben.demo.common_libs.reader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public final class KeyFileSource<K extends Key> implements Supplier<K>, AutoCloseable {
+
+  private static final byte[] PEM_PREFIX = "-----BEGIN".getBytes(StandardCharsets.US_ASCII);
+
+  private final Path path;
+  private final KeyParser<K> parser;
+  private final WatchService watcher;
+  private final Thread watcherThread;
+
+  private volatile K key;
+  private byte[] content;
+
+  // =============================================================================
+
+  private KeyFileSource(Path path, KeyParser<K> parser)
+      throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+
+    this.path = Objects.requireNonNull(path, "Key file must not be null").toAbsolutePath();
+    this.parser = parser;
+
+    this.content = Files.readAllBytes(this.path);
+    this.key = parser.parse(content);
+
+    // Watch the directory rather than the file so replace-by-rename and symlink swaps are seen too
+    watcher = this.path.getFileSystem().newWatchService();
+    this.path.getParent().register(watcher,
+        StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_MODIFY);
+
+    watcherThread = Thread.ofPlatform().name("key-file-watcher").daemon().start(this::watch);
+  }
+
+  // =============================================================================
+
+  public static KeyFileSource<PrivateKey> privateKey(Path path)
+      throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+    return new KeyFileSource<>(path, KeyFileSource::parsePrivateKey);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public static KeyFileSource<PublicKey> publicKey(Path path)
+      throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+    return new KeyFileSource<>(path, KeyFileSource::parsePublicKey);
+  }
+
+  // =============================================================================
+
+  @Override
+  public K get() {
+    return key;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  public synchronized boolean reload() throws IOException, NoSuchAlgorithmException, InvalidKeySpecException {
+    byte[] current = Files.readAllBytes(path);
+
+    if (Arrays.equals(current, content)) {
+      return false;
+    }
+
+    key = parser.parse(current);
+    content = current;
+    return true;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Override
+  public void close() {
+    try {
+      watcher.close();
+    } catch (IOException e) {
+      watcherThread.interrupt();
+    }
+  }
+
+  // =============================================================================
+
+  private void watch() {
+    try {
+      while (true) {
+        WatchKey watchKey = watcher.take();
+        watchKey.pollEvents();
+        reloadQuietly();
+
+        if (!watchKey.reset()) {
+          return;
+        }
+      }
+    } catch (ClosedWatchServiceException e) {
+      // Closed by the owner
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private void reloadQuietly() {
+    try {
+      reload();
+    } catch (IOException | NoSuchAlgorithmException | InvalidKeySpecException | RuntimeException e) {
+      // Keep serving the previous key, a half-written file is retried on its next modification
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static PrivateKey parsePrivateKey(byte[] content) throws NoSuchAlgorithmException, InvalidKeySpecException {
+    return isPem(content)
+        ? KeyReader.readPrivateKeyPkcs8(new String(content, StandardCharsets.US_ASCII))
+        : KeyReader.readPrivateKeyPkcs8(content);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static PublicKey parsePublicKey(byte[] content) throws NoSuchAlgorithmException, InvalidKeySpecException {
+    return isPem(content)
+        ? KeyReader.readPublicKeyX509(new String(content, StandardCharsets.US_ASCII))
+        : KeyReader.readPublicKeyX509(content);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static boolean isPem(byte[] content) {
+    int start = 0;
+    while (start < content.length && Character.isWhitespace(content[start])) {
+      start++;
+    }
+
+    return content.length - start >= PEM_PREFIX.length
+        && Arrays.equals(content, start, start + PEM_PREFIX.length, PEM_PREFIX, 0, PEM_PREFIX.length);
+  }
+
+  // =============================================================================
+
+  @FunctionalInterface
+  private interface KeyParser<K> {
+
+    K parse(byte[] content) throws NoSuchAlgorithmException, InvalidKeySpecException;
+
+  }
+
+}
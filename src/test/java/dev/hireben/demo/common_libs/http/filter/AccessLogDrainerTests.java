@@ -0,0 +1,59 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.logging.impl.NoOpLog;
+import org.junit.jupiter.api.Test;
+
+final class AccessLogDrainerTests {
+
+  private final List<String> messages = new CopyOnWriteArrayList<>();
+  private final NoOpLog logger = new NoOpLog() {
+
+    @Override
+    public boolean isInfoEnabled() {
+      return true;
+    }
+
+    @Override
+    public void info(Object message) {
+      messages.add(String.valueOf(message));
+    }
+
+  };
+
+  // =============================================================================
+
+  @Test
+  void close_afterEvents_shouldFlushThemInOrder() {
+    AccessLogDrainer drainer = new AccessLogDrainer(logger, 16);
+
+    drainer.received("1", "GET", "/orders", "HTTP/1.1");
+    drainer.received("2", "POST", "/orders", null);
+    drainer.responded("1", 200, 4);
+    drainer.responded("2", 500, 7);
+    drainer.close();
+
+    assertEquals(List.of(
+        "[id: 1] received GET /orders HTTP/1.1",
+        "[id: 2] received POST /orders",
+        "[id: 1] responded 200 in 4ms",
+        "[id: 2] responded 500 in 7ms"), messages);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void close_withoutEvents_shouldLogNothing() {
+    AccessLogDrainer drainer = new AccessLogDrainer(logger, 16);
+
+    drainer.close();
+
+    assertEquals(List.of(), messages);
+    assertEquals(0, drainer.droppedCount());
+  }
+
+}
@@ -0,0 +1,145 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+final class AccessLogRingBufferTests {
+
+  // =============================================================================
+
+  @Test
+  void constructAccessLogRingBuffer_withNonPositiveCapacity_shouldThrowException() {
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new AccessLogRingBuffer(0));
+    assertEquals("Buffer capacity must be positive", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void drain_shouldReturnEventsInOfferOrder() {
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(8);
+    List<String> drained = new ArrayList<>();
+
+    buffer.offerReceived("1", "GET", "/a", "HTTP/1.1");
+    buffer.offerReceived("2", "POST", "/b", "HTTP/1.1");
+    buffer.offerResponded("1", 200, 3);
+    buffer.offerResponded("2", 201, 5);
+
+    assertEquals(4, buffer.drain(event -> drained.add(describe(event)), 16));
+    assertEquals(List.of("1 GET /a", "2 POST /b", "1 200 3", "2 201 5"), drained);
+    assertEquals(0, buffer.drain(event -> drained.add(describe(event)), 16));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void drain_withLimit_shouldLeaveRemainingEvents() {
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(8);
+    List<String> drained = new ArrayList<>();
+
+    for (int i = 0; i < 5; i++) {
+      buffer.offerResponded(String.valueOf(i), 200, i);
+    }
+
+    assertEquals(2, buffer.drain(event -> drained.add(event.requestId), 2));
+    assertEquals(3, buffer.drain(event -> drained.add(event.requestId), 16));
+    assertEquals(List.of("0", "1", "2", "3", "4"), drained);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void offer_whenFull_shouldDropAndCountEvents() {
+    // Capacity is rounded up to the next power of two
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(3);
+    List<String> drained = new ArrayList<>();
+
+    for (int i = 0; i < 6; i++) {
+      buffer.offerResponded(String.valueOf(i), 200, i);
+    }
+
+    assertEquals(2, buffer.droppedCount());
+    assertEquals(4, buffer.drain(event -> drained.add(event.requestId), 16));
+    assertEquals(List.of("0", "1", "2", "3"), drained);
+
+    buffer.offerResponded("6", 200, 6);
+    assertEquals(1, buffer.drain(event -> drained.add(event.requestId), 16));
+    assertEquals(2, buffer.droppedCount());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void drain_afterWraparound_shouldKeepOrderAndReuseSlots() {
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+    List<String> drained = new ArrayList<>();
+    List<String> expected = new ArrayList<>();
+
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 3; i++) {
+        String requestId = round + "-" + i;
+        buffer.offerReceived(requestId, "GET", "/" + i, null);
+        expected.add(requestId);
+      }
+      assertEquals(3, buffer.drain(event -> drained.add(event.requestId), 16));
+    }
+
+    assertEquals(expected, drained);
+    assertEquals(0, buffer.droppedCount());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void offer_withConcurrentProducers_shouldDeliverOrDropEveryEvent() throws Exception {
+    int producers = 4;
+    int perProducer = 10_000;
+    AccessLogRingBuffer buffer = new AccessLogRingBuffer(64);
+    CountDownLatch start = new CountDownLatch(1);
+    long[] drained = new long[1];
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+      List<Future<?>> results = new ArrayList<>();
+      for (int p = 0; p < producers; p++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < perProducer; i++) {
+            buffer.offerResponded("id", 200, i);
+          }
+          return null;
+        }));
+      }
+
+      start.countDown();
+      while (!results.stream().allMatch(Future::isDone)) {
+        drained[0] += buffer.drain(event -> {
+        }, 256);
+      }
+      for (Future<?> result : results) {
+        result.get();
+      }
+    }
+
+    drained[0] += buffer.drain(event -> {
+    }, Integer.MAX_VALUE);
+    assertEquals((long) producers * perProducer, drained[0] + buffer.droppedCount());
+  }
+
+  // =============================================================================
+
+  private static String describe(AccessLogRingBuffer.Event event) {
+    return event.received
+        ? event.requestId + " " + event.method + " " + event.uri
+        : event.requestId + " " + event.status + " " + event.durationMillis;
+  }
+
+}
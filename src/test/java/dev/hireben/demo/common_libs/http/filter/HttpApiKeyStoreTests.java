@@ -0,0 +1,98 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class HttpApiKeyStoreTests {
+
+  @TempDir
+  Path directory;
+
+  // =============================================================================
+
+  @Test
+  void findClientId_withKnownKey_shouldReturnClientId() {
+    HttpApiKeyStore store = HttpApiKeyStore.of(Map.of("client-a", "key-a", "client-b", "key-b"));
+
+    assertEquals("client-a", store.findClientId("key-a"));
+    assertEquals("client-b", store.findClientId("key-b"));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void findClientId_withUnknownKey_shouldReturnNull() {
+    HttpApiKeyStore store = HttpApiKeyStore.of(Map.of("client-a", "key-a"));
+
+    assertNull(store.findClientId("key-b"));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void fromFile_withMalformedEntry_shouldThrowException() throws IOException {
+    Path file = Files.writeString(directory.resolve("api-keys"), "client-a not-a-digest\n");
+
+    assertThrows(IllegalArgumentException.class, () -> HttpApiKeyStore.fromFile(file));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void fromFile_withNonPositiveReloadInterval_shouldThrowException() throws IOException {
+    Path file = Files.writeString(directory.resolve("api-keys"), "");
+
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+        () -> HttpApiKeyStore.fromFile(file, Duration.ZERO));
+
+    assertEquals("Reload interval must be positive", e.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> HttpApiKeyStore.fromFile(file, Duration.ofSeconds(-1)));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void reload_whenFileChanged_shouldSwapKeys() throws IOException, NoSuchAlgorithmException {
+    Path file = directory.resolve("api-keys");
+    Files.writeString(file, "# clients\nclient-a " + sha256Hex("key-a") + "\n");
+    Files.setLastModifiedTime(file, FileTime.from(Instant.now().minusSeconds(60)));
+
+    try (HttpApiKeyStore store = HttpApiKeyStore.fromFile(file)) {
+      assertEquals("client-a", store.findClientId("key-a"));
+      assertFalse(store.reload());
+
+      Files.writeString(file, "client-b " + sha256Hex("key-b") + "\n");
+      Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+
+      assertTrue(store.reload());
+      assertNull(store.findClientId("key-a"));
+      assertEquals("client-b", store.findClientId("key-b"));
+    }
+  }
+
+  // =============================================================================
+
+  private static String sha256Hex(String value) throws NoSuchAlgorithmException {
+    return HexFormat.of().formatHex(
+        MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+  }
+
+}
@@ -0,0 +1,157 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+final class HttpApiLatencyMetricsFilterTests {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  // =============================================================================
+
+  @Test
+  void doFilter_withMatchedRoute_shouldTagRoutePattern() throws Exception {
+    HttpApiLatencyMetricsFilter filter = new HttpApiLatencyMetricsFilter(registry);
+
+    filter.doFilter(request("GET", "/users/{id}"), new MockHttpServletResponse(), (req, res) -> {
+    });
+
+    assertEquals(1, timer("/users/{id}", "GET", 200).count());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void doFilter_withoutMatchedRoute_shouldTagUnmatched() throws Exception {
+    HttpApiLatencyMetricsFilter filter = new HttpApiLatencyMetricsFilter(registry);
+
+    filter.doFilter(request("GET", null), new MockHttpServletResponse(), (req, res) -> {
+      ((MockHttpServletResponse) res).setStatus(HttpStatus.NOT_FOUND.value());
+    });
+
+    assertEquals(1, timer("UNMATCHED", "GET", 404).count());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void doFilter_beyondMaxRoutes_shouldFoldIntoOther() throws Exception {
+    HttpApiLatencyMetricsFilter filter = new HttpApiLatencyMetricsFilter(registry, 2);
+    FilterChain chain = (req, res) -> {
+    };
+
+    filter.doFilter(request("GET", "/a"), new MockHttpServletResponse(), chain);
+    filter.doFilter(request("GET", "/b"), new MockHttpServletResponse(), chain);
+    filter.doFilter(request("GET", "/c"), new MockHttpServletResponse(), chain);
+    filter.doFilter(request("GET", "/d"), new MockHttpServletResponse(), chain);
+    filter.doFilter(request("GET", "/a"), new MockHttpServletResponse(), chain);
+
+    assertEquals(2, timer("/a", "GET", 200).count());
+    assertEquals(1, timer("/b", "GET", 200).count());
+    assertEquals(2, timer("OTHER", "GET", 200).count());
+    assertTrue(registry.find("http.api.latency").tag("route", "/c").timers().isEmpty());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void doFilter_withUnknownMethod_shouldFoldIntoOther() throws Exception {
+    HttpApiLatencyMetricsFilter filter = new HttpApiLatencyMetricsFilter(registry);
+
+    filter.doFilter(request("PROPFIND", "/files"), new MockHttpServletResponse(), (req, res) -> {
+    });
+
+    assertEquals(1, timer("/files", "OTHER", 200).count());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void doFilter_withAsyncRequest_shouldRecordOnCompletion() throws Exception {
+    HttpApiLatencyMetricsFilter filter = new HttpApiLatencyMetricsFilter(registry);
+    MockHttpServletRequest request = request("GET", "/stream");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    request.setAsyncSupported(true);
+
+    StandardServletAsyncWebRequest asyncRequest = new StandardServletAsyncWebRequest(request, response);
+    WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncRequest);
+
+    filter.doFilter(request, response, (req, res) -> asyncRequest.startAsync());
+
+    assertTrue(registry.find("http.api.latency").timers().isEmpty());
+
+    response.setStatus(HttpStatus.ACCEPTED.value());
+    request.getAsyncContext().complete();
+
+    assertEquals(1, timer("/stream", "GET", 202).count());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void doFilter_whenChainThrows_shouldRecordServerError() {
+    HttpApiLatencyMetricsFilter filter = new HttpApiLatencyMetricsFilter(registry);
+    IllegalStateException failure = new IllegalStateException("Handler failed");
+
+    IllegalStateException e = assertThrows(IllegalStateException.class,
+        () -> filter.doFilter(request("GET", "/orders"), new MockHttpServletResponse(), (req, res) -> {
+          throw failure;
+        }));
+
+    assertSame(failure, e);
+    assertEquals(1, timer("/orders", "GET", 500).count());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void doFilter_whenChainThrowsErrorResponse_shouldRecordItsStatus() {
+    HttpApiLatencyMetricsFilter filter = new HttpApiLatencyMetricsFilter(registry);
+
+    assertThrows(ResponseStatusException.class,
+        () -> filter.doFilter(request("GET", "/orders"), new MockHttpServletResponse(), (req, res) -> {
+          throw new ResponseStatusException(HttpStatus.CONFLICT);
+        }));
+
+    assertEquals(1, timer("/orders", "GET", 409).count());
+  }
+
+  // =============================================================================
+
+  private Timer timer(String route, String method, int status) {
+    return registry.get("http.api.latency")
+        .tag("route", route)
+        .tag("method", method)
+        .tag("status", String.valueOf(status))
+        .timer();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static MockHttpServletRequest request(String method, String route) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, "/");
+
+    if (route != null) {
+      request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route);
+    }
+
+    return request;
+  }
+
+}
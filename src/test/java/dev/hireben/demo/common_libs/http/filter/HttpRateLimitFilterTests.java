@@ -0,0 +1,95 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import dev.hireben.demo.common_libs.constant.MessageHeader;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenVerificationBusyException;
+import jakarta.servlet.http.HttpServletRequest;
+
+final class HttpRateLimitFilterTests {
+
+  private final HttpApiKeyStore keyStore = HttpApiKeyStore.of(Map.of("client-a", "key-a"));
+
+  // =============================================================================
+
+  @Test
+  void byApiKey_withUnknownKeys_shouldShareOneBucket() {
+    assertEquals(HttpRateLimitFilter.UNAUTHENTICATED_KEY,
+        HttpRateLimitFilter.byApiKey().apply(apiKeyRequest("random-1")));
+    assertEquals(HttpRateLimitFilter.UNAUTHENTICATED_KEY,
+        HttpRateLimitFilter.byApiKey(keyStore).apply(apiKeyRequest("random-2")));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void byApiKey_withKnownKey_shouldResolveClientId() {
+    MockHttpServletRequest authenticated = apiKeyRequest("ignored");
+    authenticated.setAttribute(HttpApiKeyFilter.CLIENT_ID_ATTRIBUTE, "client-b");
+
+    assertEquals("client-a", HttpRateLimitFilter.byApiKey(keyStore).apply(apiKeyRequest("key-a")));
+    assertEquals("client-b", HttpRateLimitFilter.byApiKey().apply(authenticated));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void byJwtSubject_whenVerificationFails_shouldShareOneBucket() {
+    JwtVerifier busyVerifier = token -> {
+      throw new TokenVerificationBusyException("Token verification is overloaded", false);
+    };
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(MessageHeader.AUTHORIZATION, "Bearer a.b.c");
+
+    assertEquals(HttpRateLimitFilter.UNAUTHENTICATED_KEY,
+        HttpRateLimitFilter.byJwtSubject(busyVerifier).apply(request));
+    assertEquals(HttpRateLimitFilter.UNAUTHENTICATED_KEY,
+        HttpRateLimitFilter.byJwtSubject(busyVerifier).apply(new MockHttpServletRequest()));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void doFilter_withRotatingUnknownKeys_shouldThrottleThemTogether() throws Exception {
+    HttpRateLimitFilter filter = new HttpRateLimitFilter(HttpRateLimitFilter.byApiKey(keyStore), 1, 1,
+        Duration.ofMinutes(1));
+
+    MockHttpServletResponse first = filter(filter, apiKeyRequest("random-1"));
+    MockHttpServletResponse second = filter(filter, apiKeyRequest("random-2"));
+    MockHttpServletResponse known = filter(filter, apiKeyRequest("key-a"));
+
+    assertEquals(HttpStatus.OK.value(), first.getStatus());
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), second.getStatus());
+    assertEquals("1", second.getHeader(HttpHeaders.RETRY_AFTER));
+    assertEquals(HttpStatus.OK.value(), known.getStatus());
+  }
+
+  // =============================================================================
+
+  private static MockHttpServletRequest apiKeyRequest(String apiKey) {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(MessageHeader.API_KEY, apiKey);
+    return request;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static MockHttpServletResponse filter(HttpRateLimitFilter filter, HttpServletRequest request)
+      throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+}
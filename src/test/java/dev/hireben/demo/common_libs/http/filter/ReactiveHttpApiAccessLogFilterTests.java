@@ -0,0 +1,54 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+final class ReactiveHttpApiAccessLogFilterTests {
+
+  // =============================================================================
+
+  @Test
+  void responseStatus_whenChainErrors_shouldReturnInternalServerError() {
+    MockServerHttpResponse response = new MockServerHttpResponse();
+
+    assertEquals(500, ReactiveHttpApiAccessLogFilter.responseStatus(response, new IllegalStateException()));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void responseStatus_whenChainErrorsWithStatus_shouldReturnErrorStatus() {
+    MockServerHttpResponse response = new MockServerHttpResponse();
+
+    assertEquals(401, ReactiveHttpApiAccessLogFilter.responseStatus(response,
+        new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing API key")));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void responseStatus_whenChainCompletes_shouldReturnResponseStatus() {
+    MockServerHttpResponse response = new MockServerHttpResponse();
+
+    assertEquals(200, ReactiveHttpApiAccessLogFilter.responseStatus(response, null));
+
+    response.setStatusCode(HttpStatus.NOT_FOUND);
+    assertEquals(404, ReactiveHttpApiAccessLogFilter.responseStatus(response, null));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void responseStatus_whenErrorFollowsCommittedResponse_shouldReturnCommittedStatus() {
+    MockServerHttpResponse response = new MockServerHttpResponse();
+    response.setStatusCode(HttpStatus.ACCEPTED);
+    response.setComplete().block();
+
+    assertEquals(202, ReactiveHttpApiAccessLogFilter.responseStatus(response, new IllegalStateException()));
+  }
+
+}
@@ -0,0 +1,70 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.WebFilterChain;
+
+import dev.hireben.demo.common_libs.constant.MessageHeader;
+import reactor.core.publisher.Mono;
+
+final class ReactiveHttpApiKeyFilterTests {
+
+  private final ReactiveHttpApiKeyFilter filter = new ReactiveHttpApiKeyFilter(
+      HttpApiKeyStore.of(Map.of("client-a", "key-a")));
+  private final AtomicBoolean chained = new AtomicBoolean();
+  private final WebFilterChain chain = exchange -> Mono.fromRunnable(() -> chained.set(true));
+
+  // =============================================================================
+
+  @Test
+  void filter_withKnownKey_shouldExposeClientIdAndContinue() {
+    MockServerWebExchange exchange = exchange("key-a");
+
+    filter.filter(exchange, chain).block();
+
+    assertTrue(chained.get());
+    assertEquals("client-a", exchange.getAttribute(ReactiveHttpApiKeyFilter.CLIENT_ID_ATTRIBUTE));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void filter_withUnknownKey_shouldRejectWithUnauthorized() {
+    ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+        () -> filter.filter(exchange("key-b"), chain).block());
+
+    assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatusCode());
+    assertFalse(chained.get());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void filter_withoutKey_shouldRejectWithUnauthorized() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+
+    ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+        () -> filter.filter(exchange, chain).block());
+
+    assertEquals("Missing API key", exception.getReason());
+    assertFalse(chained.get());
+  }
+
+  // =============================================================================
+
+  private static MockServerWebExchange exchange(String apiKey) {
+    return MockServerWebExchange.from(MockServerHttpRequest.get("/").header(MessageHeader.API_KEY, apiKey));
+  }
+
+}
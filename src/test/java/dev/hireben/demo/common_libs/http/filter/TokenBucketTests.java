@@ -0,0 +1,125 @@
+package dev.hireben.demo.common_libs.http.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+final class TokenBucketTests {
+
+  // =============================================================================
+
+  @Test
+  void tryAcquire_withinCapacity_shouldAdmitUntilEmpty() {
+    TokenBucket bucket = new TokenBucket(3, 0);
+
+    assertEquals(0, bucket.tryAcquire(0, 3, 1));
+    assertEquals(0, bucket.tryAcquire(0, 3, 1));
+    assertEquals(0, bucket.tryAcquire(0, 3, 1));
+    assertTrue(bucket.tryAcquire(0, 3, 1) > 0);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void tryAcquire_whenEmpty_shouldReturnMillisUntilNextToken() {
+    TokenBucket bucket = new TokenBucket(1, 0);
+    bucket.tryAcquire(0, 1, 2);
+
+    assertEquals(500, bucket.tryAcquire(0, 1, 2));
+    assertEquals(250, bucket.tryAcquire(250, 1, 2));
+    assertEquals(1, bucket.tryAcquire(499, 1, 2));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void tryAcquire_afterRefillInterval_shouldAdmitAgain() {
+    TokenBucket bucket = new TokenBucket(1, 0);
+    bucket.tryAcquire(0, 1, 2);
+
+    assertEquals(0, bucket.tryAcquire(500, 1, 2));
+    assertEquals(500, bucket.tryAcquire(500, 1, 2));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void tryAcquire_afterLongIdle_shouldRefillOnlyToCapacity() {
+    TokenBucket bucket = new TokenBucket(2, 0);
+    bucket.tryAcquire(0, 2, 10);
+    bucket.tryAcquire(0, 2, 10);
+
+    long later = 60_000;
+    assertEquals(0, bucket.tryAcquire(later, 2, 10));
+    assertEquals(0, bucket.tryAcquire(later, 2, 10));
+    assertEquals(100, bucket.tryAcquire(later, 2, 10));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void tryAcquire_withClockBehindLastRefill_shouldNotRefill() {
+    TokenBucket bucket = new TokenBucket(1, 1_000);
+    bucket.tryAcquire(1_000, 1, 1);
+
+    assertEquals(1_000, bucket.tryAcquire(900, 1, 1));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void tryAcquire_withConcurrentCallers_shouldAdmitExactlyCapacity() throws Exception {
+    int capacity = 1_000;
+    int threads = 8;
+    TokenBucket bucket = new TokenBucket(capacity, 0);
+    AtomicInteger admitted = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+
+    try (ExecutorService callers = Executors.newFixedThreadPool(threads)) {
+      List<Future<?>> results = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        results.add(callers.submit(() -> {
+          start.await();
+          for (int i = 0; i < capacity; i++) {
+            if (bucket.tryAcquire(0, capacity, 1) == 0) {
+              admitted.incrementAndGet();
+            }
+          }
+          return null;
+        }));
+      }
+
+      start.countDown();
+      for (Future<?> result : results) {
+        result.get();
+      }
+    }
+
+    assertEquals(capacity, admitted.get());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void isIdle_shouldRequireFullBucketAndIdleTime() {
+    TokenBucket bucket = new TokenBucket(1, 0);
+
+    assertFalse(bucket.isIdle(500, 1, 1, 1_000));
+    assertTrue(bucket.isIdle(1_000, 1, 1, 1_000));
+
+    bucket.tryAcquire(1_000, 1, 1);
+    assertFalse(bucket.isIdle(1_500, 1, 1, 1_000));
+    assertTrue(bucket.isIdle(2_000, 1, 1, 1_000));
+  }
+
+}
@@ -0,0 +1,85 @@
+package dev.hireben.demo.common_libs.http.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import dev.hireben.demo.common_libs.exception.ApplicationException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenVerificationBusyException;
+
+final class HttpExceptionStatusResolverTests {
+
+  // =============================================================================
+
+  @Test
+  void resolve_withMappedException_shouldReturnDefaultStatus() {
+    HttpExceptionStatusResolver resolver = HttpExceptionStatusResolver.withDefaults(Map.of());
+
+    assertEquals(HttpStatus.UNAUTHORIZED, resolver.resolve(new TokenMalformedException("malformed", false)));
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE,
+        resolver.resolve(new TokenVerificationBusyException("busy", false)));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void resolve_withUnmappedException_shouldReturnInternalServerError() {
+    HttpExceptionStatusResolver resolver = HttpExceptionStatusResolver.withDefaults(Map.of());
+
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, resolver.resolve(new OrderNotFoundException()));
+    assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, resolver.resolve(new IllegalStateException()));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void resolve_withSubclassOfMappedException_shouldReturnNearestSuperclassStatus() {
+    HttpExceptionStatusResolver resolver = HttpExceptionStatusResolver.withDefaults(
+        Map.of(ApplicationException.class, HttpStatus.BAD_REQUEST, NotFoundException.class, HttpStatus.NOT_FOUND));
+
+    assertEquals(HttpStatus.NOT_FOUND, resolver.resolve(new OrderNotFoundException()));
+    assertEquals(HttpStatus.BAD_REQUEST, resolver.resolve(new ConflictException()));
+    assertEquals(HttpStatus.UNAUTHORIZED, resolver.resolve(new TokenMalformedException("malformed", false)));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void resolve_withOverride_shouldReplaceDefaultStatus() {
+    HttpExceptionStatusResolver resolver = HttpExceptionStatusResolver.withDefaults(
+        Map.of(TokenVerificationBusyException.class, HttpStatus.TOO_MANY_REQUESTS));
+
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, resolver.resolve(new TokenVerificationBusyException("busy", false)));
+    assertEquals(HttpStatus.UNAUTHORIZED, resolver.resolve(new TokenMalformedException("malformed", false)));
+  }
+
+  // =============================================================================
+
+  private static class NotFoundException extends ApplicationException {
+
+    NotFoundException() {
+      super("Not found", false);
+    }
+
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static final class OrderNotFoundException extends NotFoundException {
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static final class ConflictException extends ApplicationException {
+
+    ConflictException() {
+      super("Conflict", false);
+    }
+
+  }
+
+}
@@ -0,0 +1,39 @@
+package dev.hireben.demo.common_libs.http.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+final class HttpProblemTemplateTests {
+
+  // =============================================================================
+
+  @Test
+  void instantiate_shouldCopyPrecomputedFields() {
+    ProblemDetail problemDetail = HttpProblemTemplate.GATEWAY_TIMEOUT.instantiate();
+
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT.value(), problemDetail.getStatus());
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT.getReasonPhrase(), problemDetail.getTitle());
+    assertEquals("Gateway timed out", problemDetail.getDetail());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void instantiate_shouldReturnIndependentCopies() {
+    ProblemDetail first = HttpProblemTemplate.VALIDATION_FAILED.instantiate();
+    first.setProperty("errors", "name must not be blank");
+    first.setDetail("changed");
+
+    ProblemDetail second = HttpProblemTemplate.VALIDATION_FAILED.instantiate();
+
+    assertNotSame(first, second);
+    assertEquals("Validation failed", second.getDetail());
+    assertTrue(second.getProperties() == null || second.getProperties().isEmpty());
+  }
+
+}
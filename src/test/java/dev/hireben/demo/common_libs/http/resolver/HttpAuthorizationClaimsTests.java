@@ -0,0 +1,95 @@
+package dev.hireben.demo.common_libs.http.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import dev.hireben.demo.common_libs.constant.MessageHeader;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+final class HttpAuthorizationClaimsTests {
+
+  private static final String HEADER = "Bearer a.b.c";
+
+  // =============================================================================
+
+  @Test
+  void verify_withSameVerifier_shouldReuseMemoizedClaims() {
+    AtomicInteger calls = new AtomicInteger();
+    JwtVerifier verifier = countingVerifier("1", calls);
+    MockHttpServletRequest request = newRequest();
+
+    Claims first = HttpAuthorizationClaims.verify(request, verifier);
+    Claims second = HttpAuthorizationClaims.verify(request, verifier);
+
+    assertSame(first, second);
+    assertEquals(1, calls.get());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withDifferentVerifier_shouldNotReuseMemoizedClaims() {
+    AtomicInteger unsecuredCalls = new AtomicInteger();
+    AtomicInteger securedCalls = new AtomicInteger();
+    MockHttpServletRequest request = newRequest();
+
+    HttpAuthorizationClaims.verify(request, countingVerifier("1", unsecuredCalls));
+    Claims claims = HttpAuthorizationClaims.verify(request, countingVerifier("2", securedCalls));
+
+    assertEquals("2", claims.getSubject());
+    assertEquals(1, securedCalls.get());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void getVerifiedClaims_withSameVerifier_shouldReturnMemoizedClaims() {
+    JwtVerifier verifier = countingVerifier("1", new AtomicInteger());
+    MockHttpServletRequest request = newRequest();
+
+    Claims claims = HttpAuthorizationClaims.verify(request, verifier);
+
+    assertSame(claims, HttpAuthorizationClaims.getVerifiedClaims(request, verifier).orElseThrow());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void getVerifiedClaims_withDifferentVerifier_shouldReturnEmpty() {
+    MockHttpServletRequest request = newRequest();
+
+    HttpAuthorizationClaims.verify(request, countingVerifier("1", new AtomicInteger()));
+
+    assertTrue(HttpAuthorizationClaims
+        .getVerifiedClaims(request, countingVerifier("1", new AtomicInteger()))
+        .isEmpty());
+    assertThrows(NullPointerException.class, () -> HttpAuthorizationClaims.getVerifiedClaims(request, null));
+  }
+
+  // =============================================================================
+
+  private static MockHttpServletRequest newRequest() {
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    request.addHeader(MessageHeader.AUTHORIZATION, HEADER);
+    return request;
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static JwtVerifier countingVerifier(String subject, AtomicInteger calls) {
+    return token -> {
+      calls.incrementAndGet();
+      return Jwts.claims().subject(subject).build();
+    };
+  }
+
+}
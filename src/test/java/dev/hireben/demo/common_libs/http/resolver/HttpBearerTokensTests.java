@@ -0,0 +1,52 @@
+package dev.hireben.demo.common_libs.http.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+final class HttpBearerTokensTests {
+
+  @ParameterizedTest
+  @ValueSource(strings = { "Bearer a.b.c", "bearer a.b.c", "BEARER\ta.b.c", "  Bearer   a.b.c  " })
+  void extractToken_withBearerScheme_shouldReturnToken(String header) {
+    assertEquals("a.b.c", HttpBearerTokens.extractToken(header));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ParameterizedTest
+  @ValueSource(strings = { "Bearer a.b.", "Bearer   a.b.  " })
+  void extractToken_withUnsignedToken_shouldReturnToken(String header) {
+    assertEquals("a.b.", HttpBearerTokens.extractToken(header));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ParameterizedTest
+  @ValueSource(strings = { "Bearer", "Bearer ", "Bearera.b.c", "Basic a.b.c", "Bearer a.b", "Bearer a.b.c.d",
+      "Bearer a+b.c", "Bearer .b.c", "Bearer a..c", "a.b.c" })
+  void extractToken_withMalformedHeader_shouldReturnNull(String header) {
+    assertNull(HttpBearerTokens.extractToken(header));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ParameterizedTest
+  @ValueSource(strings = { "0", "123456789" })
+  void isNumeric_withDigits_shouldReturnTrue(String value) {
+    assertTrue(HttpBearerTokens.isNumeric(value));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ParameterizedTest
+  @ValueSource(strings = { "", " ", "12a", "-1", "1 " })
+  void isNumeric_withNonDigits_shouldReturnFalse(String value) {
+    assertFalse(HttpBearerTokens.isNumeric(value));
+  }
+
+}
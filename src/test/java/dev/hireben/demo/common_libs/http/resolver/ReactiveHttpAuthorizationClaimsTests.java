@@ -0,0 +1,86 @@
+package dev.hireben.demo.common_libs.http.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import dev.hireben.demo.common_libs.constant.MessageHeader;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import reactor.core.scheduler.Schedulers;
+
+final class ReactiveHttpAuthorizationClaimsTests {
+
+  private static final String HEADER = "Bearer a.b.c";
+
+  // =============================================================================
+
+  @Test
+  void verify_withSameVerifier_shouldReuseMemoizedClaims() {
+    AtomicInteger calls = new AtomicInteger();
+    JwtVerifier verifier = countingVerifier("1", calls);
+    MockServerWebExchange exchange = newExchange();
+
+    Claims first = ReactiveHttpAuthorizationClaims.verify(exchange, verifier, Schedulers.immediate()).block();
+    Claims second = ReactiveHttpAuthorizationClaims.verify(exchange, verifier, Schedulers.immediate()).block();
+
+    assertSame(first, second);
+    assertEquals(1, calls.get());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withDifferentVerifier_shouldNotReuseMemoizedClaims() {
+    AtomicInteger unsecuredCalls = new AtomicInteger();
+    AtomicInteger securedCalls = new AtomicInteger();
+    MockServerWebExchange exchange = newExchange();
+
+    ReactiveHttpAuthorizationClaims.verify(exchange, countingVerifier("1", unsecuredCalls), Schedulers.immediate())
+        .block();
+    Claims claims = ReactiveHttpAuthorizationClaims
+        .verify(exchange, countingVerifier("2", securedCalls), Schedulers.immediate())
+        .block();
+
+    assertEquals("2", claims.getSubject());
+    assertEquals(1, securedCalls.get());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void getVerifiedClaims_withDifferentVerifier_shouldReturnEmpty() {
+    JwtVerifier verifier = countingVerifier("1", new AtomicInteger());
+    MockServerWebExchange exchange = newExchange();
+
+    Claims claims = ReactiveHttpAuthorizationClaims.verify(exchange, verifier, Schedulers.immediate()).block();
+
+    assertSame(claims, ReactiveHttpAuthorizationClaims.getVerifiedClaims(exchange, verifier).orElseThrow());
+    assertTrue(ReactiveHttpAuthorizationClaims
+        .getVerifiedClaims(exchange, countingVerifier("1", new AtomicInteger()))
+        .isEmpty());
+  }
+
+  // =============================================================================
+
+  private static MockServerWebExchange newExchange() {
+    return MockServerWebExchange.from(MockServerHttpRequest.get("/").header(MessageHeader.AUTHORIZATION, HEADER));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static JwtVerifier countingVerifier(String subject, AtomicInteger calls) {
+    return token -> {
+      calls.incrementAndGet();
+      return Jwts.claims().subject(subject).build();
+    };
+  }
+
+}
@@ -0,0 +1,127 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.SecretKey;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.hireben.demo.common_libs.jwt.api.CachingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+final class CachingJwtVerifierTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final SecretKey symmetricKey = Jwts.SIG.HS256.key().build();
+
+  private final JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+  private final JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+  private final AtomicInteger delegateCalls = new AtomicInteger();
+  private final JwtVerifier countingVerifier = token -> {
+    delegateCalls.incrementAndGet();
+    return verifier.verifyToken(token);
+  };
+
+  // =============================================================================
+
+  @Test
+  void constructCachingJwtVerifierImpl_withNonPositiveSize_shouldThrowException() {
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> new CachingJwtVerifierImpl(verifier, 0, Duration.ofMinutes(1), Clock.systemUTC()));
+    assertEquals("Maximum cache size must be positive", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenCalledTwice_shouldVerifyOnce() {
+    CachingJwtVerifier cache = new CachingJwtVerifierImpl(countingVerifier, 16, Duration.ofMinutes(5),
+        Clock.systemUTC());
+    String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    Claims first = cache.verifyToken(token);
+    Claims second = cache.verifyToken(token);
+
+    assertSame(first, second);
+    assertEquals(1, delegateCalls.get());
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenCachedTokenExpired_shouldVerifyAgain() {
+    MutableClock clock = new MutableClock(Instant.now());
+    CachingJwtVerifier cache = new CachingJwtVerifierImpl(countingVerifier, 16, Duration.ofMinutes(5), clock);
+    String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    cache.verifyToken(token);
+    clock.advance(Duration.ofMinutes(2));
+    cache.verifyToken(token);
+
+    assertEquals(2, delegateCalls.get());
+    assertEquals(0, cache.hitCount());
+    assertEquals(1, cache.evictionCount());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenMaximumSizeExceeded_shouldEvictEntries() {
+    CachingJwtVerifier cache = new CachingJwtVerifierImpl(countingVerifier, 4, Duration.ofMinutes(5),
+        Clock.systemUTC());
+
+    for (int i = 0; i < 20; i++) {
+      cache.verifyToken(issuer.issueToken(String.valueOf(i), null, null, Duration.ofMinutes(1), null));
+    }
+
+    Assertions.assertThat(cache.size()).isLessThanOrEqualTo(4);
+    Assertions.assertThat(cache.evictionCount()).isGreaterThanOrEqualTo(16);
+  }
+
+  // =============================================================================
+
+  private static final class MutableClock extends Clock {
+
+    private volatile Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+
+  }
+
+}
@@ -0,0 +1,139 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import javax.crypto.SecretKey;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.hireben.demo.common_libs.constant.AuthClaimKey;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimDictionary;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsView;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+final class ClaimAliasingTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final SecretKey symmetricKey = Jwts.SIG.HS256.key().build();
+  private static final JwtClaimDictionary dictionary = JwtClaimDictionary.builder()
+      .alias("organization-department", "od")
+      .alias(AuthClaimKey.GROUP, "g")
+      .group("admin")
+      .group("user")
+      .group("auditor")
+      .build();
+  private static final Map<String, Object> claims = Map.of(
+      "organization-department", "platform-engineering",
+      AuthClaimKey.GROUP, List.of("admin", "auditor", "contractor"));
+
+  private final JwtIssuer plainIssuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+  private final JwtIssuer aliasingIssuer = new AliasingJwtIssuerImpl(plainIssuer, dictionary);
+
+  // =============================================================================
+
+  @Test
+  void constructClaimAliases_withAliasedRegisteredClaim_shouldThrowException() {
+    JwtClaimDictionary invalid = JwtClaimDictionary.builder().alias("sub", "s").build();
+
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new ClaimAliases(invalid));
+    assertEquals("Registered claims cannot be aliased: sub", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void constructClaimAliases_withTooManyGroups_shouldThrowException() {
+    JwtClaimDictionary invalid = JwtClaimDictionary.builder()
+        .groups(IntStream.range(0, 54).mapToObj(i -> "group-" + i).toList())
+        .build();
+
+    assertThrows(IllegalArgumentException.class, () -> new ClaimAliases(invalid));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_withDictionary_shouldShrinkTokenAndRoundTrip() {
+    String plainToken = plainIssuer.issueToken("1", null, claims, Duration.ofMinutes(5), null);
+    String aliasedToken = aliasingIssuer.issueToken("1", null, claims, Duration.ofMinutes(5), null);
+
+    Assertions.assertThat(aliasedToken.length()).isLessThan(plainToken.length());
+
+    JwtVerifier verifier = new AliasingJwtVerifierImpl(new JwtVerifierImpl(symmetricKey), dictionary);
+    Claims verified = verifier.verifyToken(aliasedToken);
+
+    assertEquals("1", verified.getSubject());
+    assertEquals("platform-engineering", verified.get("organization-department", String.class));
+    Assertions.assertThat(verified.get(AuthClaimKey.GROUP, List.class))
+        .containsExactly("admin", "auditor", "contractor");
+    Assertions.assertThat(verified).doesNotContainKeys("od", "g", "gm");
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyClaimsView_withDictionary_shouldExposeOriginalNames() {
+    String aliasedToken = aliasingIssuer.issueToken("1", null, claims, Duration.ofMinutes(5), null);
+
+    JwtClaimsView view = new AliasingJwtClaimsViewVerifierImpl(
+        new JwtClaimsViewVerifierImpl(symmetricKey, Clock.systemUTC()), dictionary)
+        .verifyClaimsView(aliasedToken);
+
+    assertEquals("1", view.getSubject());
+    assertEquals("platform-engineering", view.getString("organization-department"));
+    Assertions.assertThat(view.getGroups()).containsExactly("admin", "auditor", "contractor");
+    Assertions.assertThat(view.getStringList(AuthClaimKey.GROUP)).containsExactly("admin", "auditor", "contractor");
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withPlainTokenAndDictionary_shouldKeepClaims() {
+    String plainToken = plainIssuer.issueToken("1", null, claims, Duration.ofMinutes(5), null);
+
+    Claims verified = new AliasingJwtVerifierImpl(new JwtVerifierImpl(symmetricKey), dictionary)
+        .verifyToken(plainToken);
+
+    assertEquals("platform-engineering", verified.get("organization-department", String.class));
+    Assertions.assertThat(verified.get(AuthClaimKey.GROUP, List.class))
+        .containsExactly("admin", "auditor", "contractor");
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyClaimsView_withPlainTokenAndDictionary_shouldKeepClaims() {
+    String plainToken = plainIssuer.issueToken("1", null, claims, Duration.ofMinutes(5), null);
+
+    JwtClaimsView view = new AliasingJwtClaimsViewVerifierImpl(
+        new JwtClaimsViewVerifierImpl(symmetricKey, Clock.systemUTC()), dictionary)
+        .verifyClaimsView(plainToken);
+
+    assertEquals("platform-engineering", view.getString("organization-department"));
+    assertTrue(view.containsKey(AuthClaimKey.GROUP));
+    Assertions.assertThat(view.getGroups()).containsExactly("admin", "auditor", "contractor");
+    Assertions.assertThat(view.getStringList(AuthClaimKey.GROUP)).containsExactly("admin", "auditor", "contractor");
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_withClaimNamedLikeAlias_shouldThrowException() {
+    assertThrows(TokenIssuanceFailException.class,
+        () -> aliasingIssuer.issueToken("1", null, Map.of("od", "x"), Duration.ofMinutes(5), null));
+  }
+
+}
@@ -0,0 +1,142 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+final class DirectJwtIssuerTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final SecretKey symmetricKey = Jwts.SIG.HS256.key().build();
+  private static final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+
+  // =============================================================================
+
+  @Test
+  void constructDirectJwtIssuerImpl_withNullPrivateKey_shouldThrowException() {
+    Exception exception = assertThrows(NullPointerException.class,
+        () -> new DirectJwtIssuerImpl(ISSUER_NAME, (PrivateKey) null, null));
+    assertEquals("Private key must not be null", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_withInvalidTtl_shouldThrowException() {
+    JwtIssuer issuer = new DirectJwtIssuerImpl(ISSUER_NAME, symmetricKey, null);
+    assertThrows(TokenIssuanceFailException.class,
+        () -> issuer.issueToken(null, null, null, Duration.ofSeconds(-1), null));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_withSymmKey_shouldBeParsableWithSymmVerifier() {
+    JwtIssuer issuer = new DirectJwtIssuerImpl(ISSUER_NAME, symmetricKey, null);
+    JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+
+    assertIssuedClaims(verifier.verifyToken(issueToken(issuer)));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_withAsymmKey_shouldBeParsableWithAsymmVerifier() {
+    JwtIssuer issuer = new DirectJwtIssuerImpl(ISSUER_NAME, keyPair.getPrivate(), "key-1");
+    JwtVerifier verifier = new JwtVerifierImpl(keyPair.getPublic());
+
+    String token = issueToken(issuer);
+
+    assertIssuedClaims(verifier.verifyToken(token));
+    assertEquals("key-1", Jwts.parser().verifyWith(keyPair.getPublic()).build()
+        .parseSignedClaims(token).getHeader().getKeyId());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ParameterizedTest
+  @ValueSource(strings = { "secp256r1", "secp384r1", "secp521r1" })
+  void issueToken_withEcKey_shouldBeParsableWithEcVerifier(String curve) throws GeneralSecurityException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+    generator.initialize(new ECGenParameterSpec(curve));
+    KeyPair ecKeyPair = generator.generateKeyPair();
+
+    JwtIssuer issuer = new DirectJwtIssuerImpl(ISSUER_NAME, ecKeyPair.getPrivate(), null);
+    JwtVerifier verifier = new JwtVerifierImpl(ecKeyPair.getPublic());
+
+    assertIssuedClaims(verifier.verifyToken(issueToken(issuer)));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_withEd25519Key_shouldBeParsableWithEdDsaVerifier() throws GeneralSecurityException {
+    KeyPair edKeyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+
+    JwtIssuer issuer = new DirectJwtIssuerImpl(ISSUER_NAME, edKeyPair.getPrivate(), null);
+    JwtVerifier verifier = new JwtVerifierImpl(edKeyPair.getPublic());
+
+    assertIssuedClaims(verifier.verifyToken(issueToken(issuer)));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_whenCalledRepeatedly_shouldProduceDistinctVerifiableTokens() {
+    JwtIssuer issuer = new DirectJwtIssuerImpl(ISSUER_NAME, symmetricKey, null);
+    JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+
+    String first = issueToken(issuer);
+    String second = issueToken(issuer);
+
+    Assertions.assertThat(first).isNotEqualTo(second);
+    assertIssuedClaims(verifier.verifyToken(first));
+    assertIssuedClaims(verifier.verifyToken(second));
+  }
+
+  // =============================================================================
+
+  private static String issueToken(JwtIssuer issuer) {
+    return issuer.issueToken(
+        "1",
+        List.of("api.hireben.dev"),
+        Map.of("group", List.of("admin", "user")),
+        Duration.ofMinutes(5),
+        null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static void assertIssuedClaims(Claims claims) {
+    assertEquals(ISSUER_NAME, claims.getIssuer());
+    assertEquals("1", claims.getSubject());
+    assertNotNull(claims.getId());
+    assertNotNull(claims.getIssuedAt());
+    assertNotNull(claims.getExpiration());
+    Assertions.assertThat(claims.getAudience()).containsExactly("api.hireben.dev");
+    Assertions.assertThat(claims.get("group", List.class)).containsExactly("admin", "user");
+  }
+
+}
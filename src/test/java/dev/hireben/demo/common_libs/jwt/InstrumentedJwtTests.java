@@ -0,0 +1,199 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtTokenSpec;
+import dev.hireben.demo.common_libs.jwt.api.JwtValidationPolicy;
+import dev.hireben.demo.common_libs.jwt.api.JwtValidationStage;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.PreValidatingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenVerificationBusyException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+final class InstrumentedJwtTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final SecretKey symmetricKey = Jwts.SIG.HS256.key().build();
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+
+  // =============================================================================
+
+  @Test
+  void verifyToken_withValidToken_shouldRecordVerifiedOutcomePhasesAndSize() {
+    JwtVerifier verifier = new InstrumentedJwtVerifierImpl(new JwtVerifierImpl(symmetricKey), registry);
+    String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    assertEquals("1", verifier.verifyToken(token).getSubject());
+
+    assertEquals(1, verifyCount("verified"));
+    assertEquals(0, verifyCount("rejected"));
+    assertEquals(1, phaseCount("parse"));
+    assertEquals(1, phaseCount("signature"));
+    assertEquals(1, phaseCount("claims"));
+
+    DistributionSummary size = tokenSize("verify");
+    assertEquals(1, size.count());
+    assertEquals(token.length(), size.totalAmount());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withPolicyVerifier_shouldRecordPhasesAndKeepPolicyCounts() {
+    PreValidatingJwtVerifier policyVerifier = JwtClients.newVerifierWithSymmetricKey(symmetricKey,
+        JwtValidationPolicy.builder().requiredIssuer(ISSUER_NAME).build());
+    JwtVerifier verifier = new InstrumentedJwtVerifierImpl(policyVerifier, registry);
+    String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    assertEquals("1", verifier.verifyToken(token).getSubject());
+    assertInstanceOf(JwtVerification.Rejected.class, verifier.verify("not-a-token"));
+
+    assertEquals(1, verifyCount("verified"));
+    assertEquals(1, phaseCount("parse"));
+    assertEquals(1, phaseCount("signature"));
+    assertEquals(1, phaseCount("claims"));
+    assertEquals(1, policyVerifier.passedCount());
+    assertEquals(1, policyVerifier.rejectedCount(JwtValidationStage.STRUCTURE));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withForgedSignature_shouldRecordRejectionReason() {
+    JwtVerifier verifier = new InstrumentedJwtVerifierImpl(new JwtVerifierImpl(symmetricKey), registry);
+    String token = new JwtIssuerImpl(ISSUER_NAME, Jwts.SIG.HS256.key().build())
+        .issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    assertInstanceOf(JwtVerification.Rejected.class, verifier.verify(token));
+
+    assertEquals(1, verifyCount("rejected"));
+    assertEquals(1, failureCount("bad_signature"));
+    assertEquals(0, failureCount("malformed"));
+    assertEquals(0, phaseCount("signature"));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withMalformedToken_shouldRecordReasonAndRethrow() {
+    JwtVerifier verifier = new InstrumentedJwtVerifierImpl(new JwtVerifierImpl(symmetricKey), registry);
+
+    assertThrows(MalformedJwtException.class, () -> verifier.verifyToken("not.a.token"));
+
+    assertEquals(1, verifyCount("rejected"));
+    assertEquals(1, failureCount("malformed"));
+    assertEquals(1, tokenSize("verify").count());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenDelegateBusy_shouldRecordBusyOutcomeWithoutFailure() {
+    JwtVerifier busyVerifier = token -> {
+      throw new TokenVerificationBusyException("Token verification is overloaded", false);
+    };
+    JwtVerifier verifier = new InstrumentedJwtVerifierImpl(busyVerifier, registry);
+
+    assertThrows(TokenVerificationBusyException.class, () -> verifier.verifyToken("a.b.c"));
+    assertThrows(TokenVerificationBusyException.class, () -> verifier.verify("a.b.c"));
+
+    assertEquals(2, verifyCount("busy"));
+    assertEquals(0, verifyCount("rejected"));
+    assertEquals(0, failureCount("invalid"));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_shouldRecordIssuedOutcomeAndSize() {
+    JwtIssuer instrumented = new InstrumentedJwtIssuerImpl(issuer, registry);
+
+    String token = instrumented.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    assertEquals(1, issueCount("single", "issued"));
+    assertEquals(token.length(), tokenSize("issue").totalAmount());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_whenDelegateFails_shouldRecordFailedOutcome() {
+    JwtIssuer failing = (subject, audiences, claims, ttl, nbf) -> {
+      throw new TokenIssuanceFailException("Token issuance failed", false);
+    };
+    JwtIssuer instrumented = new InstrumentedJwtIssuerImpl(failing, registry);
+
+    assertThrows(TokenIssuanceFailException.class,
+        () -> instrumented.issueToken("1", null, null, Duration.ofMinutes(1), null));
+
+    assertEquals(1, issueCount("single", "failed"));
+    assertEquals(0, tokenSize("issue").count());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueTokens_shouldRecordOneBatchAndEveryTokenSize() {
+    JwtIssuer instrumented = new InstrumentedJwtIssuerImpl(issuer, registry);
+    JwtTokenSpec spec = JwtTokenSpec.builder().subject("1").ttl(Duration.ofMinutes(1)).build();
+
+    List<String> tokens = instrumented.issueTokens(List.of(spec, spec, spec));
+
+    assertEquals(3, tokens.size());
+    assertEquals(1, issueCount("batch", "issued"));
+    assertEquals(0, issueCount("single", "issued"));
+    assertEquals(3, tokenSize("issue").count());
+  }
+
+  // =============================================================================
+
+  private long verifyCount(String outcome) {
+    return registry.get(InstrumentedJwtVerifierImpl.VERIFY_METRIC_NAME).tag("outcome", outcome).timer().count();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private long phaseCount(String phase) {
+    return registry.get(InstrumentedJwtVerifierImpl.PHASE_METRIC_NAME).tag("phase", phase).timer().count();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private double failureCount(String reason) {
+    return registry.get(InstrumentedJwtVerifierImpl.FAILURE_METRIC_NAME).tag("reason", reason).counter().count();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private long issueCount(String mode, String outcome) {
+    return registry.get(InstrumentedJwtIssuerImpl.ISSUE_METRIC_NAME)
+        .tag("mode", mode)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private DistributionSummary tokenSize(String operation) {
+    return registry.get(InstrumentedJwtVerifierImpl.TOKEN_SIZE_METRIC_NAME).tag("operation", operation).summary();
+  }
+
+}
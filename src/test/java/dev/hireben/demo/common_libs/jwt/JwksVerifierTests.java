@@ -0,0 +1,149 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import dev.hireben.demo.common_libs.jwt.api.JwksSource;
+import dev.hireben.demo.common_libs.jwt.api.JwksVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import io.jsonwebtoken.Jwts;
+
+final class JwksVerifierTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final KeyPair currentKeyPair = Jwts.SIG.RS256.keyPair().build();
+  private static final KeyPair rotatedKeyPair = Jwts.SIG.RS256.keyPair().build();
+
+  private final AtomicReference<String> jwks = new AtomicReference<>(jwks("current", currentKeyPair));
+
+  // =============================================================================
+
+  @Test
+  void verifyToken_withKnownKeyId_shouldReturnClaims() {
+    try (JwksVerifierImpl verifier = new JwksVerifierImpl(jwks::get, Duration.ofMinutes(5), Duration.ZERO)) {
+      JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, currentKeyPair.getPrivate(), "current");
+
+      String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+      assertEquals("1", verifier.verifyToken(token).getSubject());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withRotatedKeyId_shouldAcceptAfterRefresh() {
+    try (JwksVerifierImpl verifier = new JwksVerifierImpl(jwks::get, Duration.ofMinutes(5), Duration.ZERO)) {
+      JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, rotatedKeyPair.getPrivate(), "rotated");
+      String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+      assertThrows(TokenMalformedException.class, () -> verifier.verifyToken(token));
+
+      jwks.set(jwks("rotated", rotatedKeyPair));
+
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .ignoreExceptions()
+          .until(() -> "1".equals(verifier.verifyToken(token).getSubject()));
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withoutKeyId_shouldThrowException() {
+    try (JwksVerifierImpl verifier = new JwksVerifierImpl(jwks::get, Duration.ofMinutes(5), Duration.ZERO)) {
+      String token = new JwtIssuerImpl(ISSUER_NAME, currentKeyPair.getPrivate())
+          .issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+      Exception exception = assertThrows(TokenMalformedException.class, () -> verifier.verifyToken(token));
+      assertEquals("Token key id is missing", exception.getMessage());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void constructJwksVerifierImpl_withoutUsableKeys_shouldThrowException() {
+    Exception exception = assertThrows(IllegalStateException.class,
+        () -> new JwksVerifierImpl(() -> "{\"keys\":[]}", Duration.ofMinutes(5), Duration.ZERO));
+    assertEquals("JWKS source has no usable keys", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void constructJwksVerifierImpl_withFailingSource_shouldThrowException() {
+    Exception exception = assertThrows(IllegalStateException.class,
+        () -> new JwksVerifierImpl(() -> {
+          throw new IOException("unreachable");
+        }, Duration.ofMinutes(5), Duration.ZERO));
+    assertEquals("Initial JWKS fetch failed", exception.getMessage());
+    assertInstanceOf(IOException.class, exception.getCause());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenRefreshFails_shouldKeepPreviousKeys() {
+    AtomicInteger fetches = new AtomicInteger();
+    JwksSource flaky = () -> {
+      if (fetches.incrementAndGet() > 1) {
+        throw new IOException("unreachable");
+      }
+      return jwks.get();
+    };
+
+    try (JwksVerifier verifier = new JwksVerifierImpl(flaky, Duration.ofMinutes(5), Duration.ZERO)) {
+      JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, currentKeyPair.getPrivate(), "current");
+      String unknown = new JwtIssuerImpl(ISSUER_NAME, rotatedKeyPair.getPrivate(), "rotated")
+          .issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+      assertThrows(TokenMalformedException.class, () -> verifier.verifyToken(unknown));
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> fetches.get() > 1);
+
+      assertEquals(1, verifier.keyCount());
+      assertEquals("1", verifier.verifyToken(issuer.issueToken("1", null, null, Duration.ofMinutes(1), null))
+          .getSubject());
+    }
+  }
+
+  // =============================================================================
+
+  private static String jwks(String keyId, KeyPair keyPair) {
+    RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+    return String.format(
+        "{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"%s\",\"n\":\"%s\",\"e\":\"%s\"}]}",
+        keyId,
+        base64Url(key.getModulus()),
+        base64Url(key.getPublicExponent()));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static String base64Url(BigInteger value) {
+    byte[] bytes = value.toByteArray();
+    if (bytes.length > 1 && bytes[0] == 0) {
+      bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+    }
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+  }
+
+}
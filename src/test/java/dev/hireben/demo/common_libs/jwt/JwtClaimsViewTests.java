@@ -0,0 +1,170 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsView;
+import dev.hireben.demo.common_libs.jwt.api.JwtClaimsViewVerifier;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.RequiredTypeException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+final class JwtClaimsViewTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final SecretKey symmetricKey = Jwts.SIG.HS256.key().build();
+  private static final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+
+  private final JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+  private final JwtClaimsViewVerifier verifier = new JwtClaimsViewVerifierImpl(symmetricKey, Clock.systemUTC());
+
+  // =============================================================================
+
+  @Test
+  void verifyClaimsView_withValidToken_shouldExposeRegisteredClaimsAndGroups() {
+    String token = issuer.issueToken(
+        "1",
+        List.of("api.hireben.dev"),
+        Map.of("group", List.of("admin", "user"), "level", 3),
+        Duration.ofMinutes(5),
+        null);
+
+    JwtClaimsView claims = verifier.verifyClaimsView(token);
+
+    assertEquals(ISSUER_NAME, claims.getIssuer());
+    assertEquals("1", claims.getSubject());
+    Assertions.assertThat(claims.getAudience()).containsExactly("api.hireben.dev");
+    Assertions.assertThat(claims.getGroups()).containsExactly("admin", "user");
+    Assertions.assertThat(claims.getId()).isNotBlank();
+    Assertions.assertThat(claims.getExpiration()).isAfter(claims.getIssuedAt());
+    assertNull(claims.getNotBefore());
+    assertEquals(3L, claims.getLong("level"));
+    assertFalse(claims.containsKey("missing"));
+    Assertions.assertThat(claims.getStringList("missing")).isEmpty();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyClaimsView_withEscapedClaim_shouldDecodeString() {
+    String value = "quote \" slash \\ newline \n unicode é 😀";
+    String token = issuer.issueToken("1", null, Map.of("note", value), Duration.ofMinutes(5), null);
+
+    assertEquals(value, verifier.verifyClaimsView(token).getString("note"));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyClaimsView_withMismatchedClaimType_shouldThrowException() {
+    String token = issuer.issueToken("1", null, Map.of("level", 3), Duration.ofMinutes(5), null);
+
+    JwtClaimsView claims = verifier.verifyClaimsView(token);
+
+    assertThrows(RequiredTypeException.class, () -> claims.getString("level"));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ParameterizedTest
+  @ValueSource(strings = { "RSA", "EC", "Ed25519" })
+  void verifyClaimsView_withAsymmKey_shouldVerifyDirectAndJjwtTokens(String algorithm)
+      throws GeneralSecurityException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+    switch (algorithm) {
+      case "RSA" -> generator.initialize(2048);
+      case "EC" -> generator.initialize(new ECGenParameterSpec("secp384r1"));
+      default -> {
+      }
+    }
+    KeyPair pair = generator.generateKeyPair();
+    JwtClaimsViewVerifier asymmVerifier = new JwtClaimsViewVerifierImpl(pair.getPublic(), Clock.systemUTC());
+
+    String jjwtToken = new JwtIssuerImpl(ISSUER_NAME, pair.getPrivate())
+        .issueToken("1", null, null, Duration.ofMinutes(5), null);
+    String directToken = new DirectJwtIssuerImpl(ISSUER_NAME, pair.getPrivate(), "key-1")
+        .issueToken("2", null, null, Duration.ofMinutes(5), null);
+
+    assertEquals("1", asymmVerifier.verifyClaimsView(jjwtToken).getSubject());
+    assertEquals("2", asymmVerifier.verifyClaimsView(directToken).getSubject());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyClaimsView_withTamperedPayload_shouldThrowException() {
+    String token = issuer.issueToken("1", null, null, Duration.ofMinutes(5), null);
+    String other = issuer.issueToken("2", null, null, Duration.ofMinutes(5), null);
+
+    String[] parts = token.split("\\.");
+    String tampered = parts[0] + "." + other.split("\\.")[1] + "." + parts[2];
+
+    assertThrows(SignatureException.class, () -> verifier.verifyClaimsView(tampered));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyClaimsView_withForeignAlgorithm_shouldThrowException() {
+    String token = new JwtIssuerImpl(ISSUER_NAME, keyPair.getPrivate())
+        .issueToken("1", null, null, Duration.ofMinutes(5), null);
+
+    assertThrows(UnsupportedJwtException.class, () -> verifier.verifyClaimsView(token));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyClaimsView_withUnsecuredOrMalformedToken_shouldThrowException() {
+    String unsecured = new JwtIssuerImpl(ISSUER_NAME).issueToken("1", null, null, null, null);
+
+    assertThrows(TokenMalformedException.class, () -> verifier.verifyClaimsView(unsecured));
+    assertThrows(TokenMalformedException.class, () -> verifier.verifyClaimsView("a.b.c"));
+    assertThrows(TokenMalformedException.class, () -> verifier.verifyClaimsView(null));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyClaimsView_whenTokenExpired_shouldThrowException() {
+    JwtClaimsViewVerifier laterVerifier = new JwtClaimsViewVerifierImpl(symmetricKey,
+        Clock.offset(Clock.systemUTC(), Duration.ofMinutes(2)));
+    String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    assertThrows(ExpiredJwtException.class, () -> laterVerifier.verifyClaimsView(token));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyClaimsView_whenTokenNotYetUsable_shouldThrowException() {
+    String token = issuer.issueToken("1", null, null, Duration.ofMinutes(5), Instant.now().plusSeconds(60));
+
+    assertThrows(PrematureJwtException.class, () -> verifier.verifyClaimsView(token));
+  }
+
+}
@@ -0,0 +1,91 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import javax.crypto.SecretKey;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIdGenerator;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Jwts;
+
+final class JwtIdGeneratorTests {
+
+  private static final SecretKey symmetricKey = Jwts.SIG.HS256.key().build();
+
+  // =============================================================================
+
+  @Test
+  void constructStripedJwtIdGenerator_withNonPositiveConcurrency_shouldThrowException() {
+    Exception exception = assertThrows(IllegalArgumentException.class, () -> new StripedJwtIdGenerator(0));
+    assertEquals("Concurrency must be positive", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void nextId_shouldReturn128BitBase64UrlIds() {
+    String id = StripedJwtIdGenerator.DEFAULT.nextId();
+
+    Assertions.assertThat(id).hasSize(22).matches("[A-Za-z0-9_-]+");
+    assertEquals(16, Base64.getUrlDecoder().decode(id).length);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void nextId_fromManyThreads_shouldNotRepeat() throws Exception {
+    JwtIdGenerator generator = new StripedJwtIdGenerator(2);
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      List<Future<?>> futures = IntStream.range(0, 8)
+          .<Future<?>>mapToObj(i -> executor.submit(() -> {
+            for (int j = 0; j < 10_000; j++) {
+              ids.add(generator.nextId());
+            }
+          }))
+          .toList();
+
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+
+    assertEquals(80_000, ids.size());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueToken_withCustomIdGenerator_shouldUseGeneratedId() {
+    JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+    JwtIssuer issuer = new JwtIssuerImpl("hireben.dev", symmetricKey, () -> "fixed-id");
+    JwtIssuer directIssuer = new DirectJwtIssuerImpl("hireben.dev", symmetricKey, null, () -> "fixed-id");
+
+    assertEquals("fixed-id", verifier.verifyToken(issuer.issueToken("1", null, null, null, null)).getId());
+    assertEquals("fixed-id", verifier.verifyToken(directIssuer.issueToken("1", null, null, null, null)).getId());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void uuid_shouldReturnUuidStrings() {
+    Assertions.assertThat(JwtIdGenerator.uuid().nextId())
+        .matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+  }
+
+}
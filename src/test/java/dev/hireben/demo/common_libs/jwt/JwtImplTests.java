@@ -4,19 +4,34 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import javax.crypto.SecretKey;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtRejectionReason;
+import dev.hireben.demo.common_libs.jwt.api.JwtTokenSpec;
+import dev.hireben.demo.common_libs.jwt.api.JwtValidationPolicy;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
 import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
 import dev.hireben.demo.common_libs.jwt.exception.TokenIssuanceFailException;
 import io.jsonwebtoken.Claims;
@@ -221,4 +236,151 @@ final class JwtImplTests {
     assertThrows(PrematureJwtException.class, () -> verifier.verifyToken(expiredToken));
   }
 
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueTokens_withExecutor_shouldPreserveSpecOrder() {
+    JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+    JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+
+    List<JwtTokenSpec> specs = IntStream.range(0, 50)
+        .mapToObj(i -> JwtTokenSpec.builder().subject(String.valueOf(i)).ttl(Duration.ofMinutes(1)).build())
+        .toList();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<String> tokens = issuer.issueTokens(specs, executor);
+
+      assertEquals(specs.size(), tokens.size());
+      for (int i = 0; i < tokens.size(); i++) {
+        assertEquals(String.valueOf(i), verifier.verifyToken(tokens.get(i)).getSubject());
+      }
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void issueTokens_withInvalidTtl_shouldThrowException() {
+    JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+    List<JwtTokenSpec> specs = List.of(
+        JwtTokenSpec.builder().subject("1").build(),
+        JwtTokenSpec.builder().subject("2").ttl(Duration.ofSeconds(-1)).build());
+
+    assertThrows(TokenIssuanceFailException.class, () -> issuer.issueTokens(specs, Runnable::run));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withMalformedToken_shouldReturnRejection() {
+    JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+
+    JwtVerification result = verifier.verify("not-a-token");
+
+    Assertions.assertThat(result).isInstanceOf(JwtVerification.Rejected.class);
+    assertEquals(JwtRejectionReason.MALFORMED, ((JwtVerification.Rejected) result).reason());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withSymmKey_whenTokenExpired_shouldReturnRejection() {
+    String expiredToken = Jwts.builder()
+        .signWith(symmetricKey)
+        .expiration(Date.from(Instant.now().minusSeconds(1)))
+        .compact();
+
+    JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+
+    JwtVerification result = verifier.verify(expiredToken);
+
+    Assertions.assertThat(result).isInstanceOf(JwtVerification.Rejected.class);
+    assertEquals(JwtRejectionReason.EXPIRED, ((JwtVerification.Rejected) result).reason());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withAsymmKey_shouldReturnVerifiedClaims() {
+    JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, keyPair.getPrivate());
+    JwtVerifier verifier = new JwtVerifierImpl(keyPair.getPublic());
+
+    JwtVerification result = verifier.verify(issuer.issueToken("1", null, null, null, null));
+
+    Assertions.assertThat(result).isInstanceOf(JwtVerification.Verified.class);
+    assertEquals("1", ((JwtVerification.Verified) result).claims().getSubject());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ParameterizedTest
+  @ValueSource(strings = { "rsa", "ec-p256", "ec-p384", "ed25519" })
+  void issueToken_withPemKeys_shouldBeParsableWithPemVerifier(String name) throws IOException,
+      GeneralSecurityException {
+    JwtIssuer issuer = JwtClients.newIssuerWithPrivateKeyPem(ISSUER_NAME, resource(name + "-private-pkcs8.pem"));
+    JwtIssuer directIssuer = JwtClients.newDirectIssuerWithPrivateKeyPem(ISSUER_NAME,
+        resource(name + "-private-pkcs8.pem"), name);
+    JwtVerifier verifier = JwtClients.newVerifierWithPublicKeyPem(resource(name + "-public-x509.pem"));
+
+    assertEquals("1", verifier.verifyToken(issuer.issueToken("1", null, null, null, null)).getSubject());
+    assertEquals("2", verifier.verifyToken(directIssuer.issueToken("2", null, null, null, null)).getSubject());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void warmUp_withNonPositiveIterations_shouldThrowException() {
+    JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+    JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> JwtClients.warmUp(issuer, verifier, 0));
+    assertEquals("Warm-up iterations must be positive", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void warmUp_withIssuerAndVerifier_shouldRunEveryCycle() {
+    JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+    List<JwtVerification> verifications = new ArrayList<>();
+
+    JwtClients.warmUp(new JwtIssuerImpl(ISSUER_NAME, symmetricKey), token -> {
+      JwtVerification verification = verifier.verify(token);
+      verifications.add(verification);
+      return ((JwtVerification.Verified) verification).claims();
+    }, 10);
+
+    Assertions.assertThat(verifications).hasSize(10).allMatch(JwtVerification.Verified.class::isInstance);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void warmUp_withRequiredAudience_shouldPassPolicyPreCheck() {
+    JwtVerifier verifier = JwtClients.newVerifierWithSymmetricKey(symmetricKey,
+        JwtValidationPolicy.builder().requiredAudience("orders").build());
+    List<JwtVerification> verifications = new ArrayList<>();
+    JwtVerifier recording = token -> {
+      JwtVerification verification = verifier.verify(token);
+      verifications.add(verification);
+      return null;
+    };
+    JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+
+    JwtClients.warmUp(issuer, recording, 5);
+    JwtClients.warmUp(issuer, recording, "orders", 5);
+
+    Assertions.assertThat(verifications.subList(0, 5)).allMatch(JwtVerification.Rejected.class::isInstance);
+    Assertions.assertThat(verifications.subList(5, 10)).allMatch(JwtVerification.Verified.class::isInstance);
+  }
+
+  // =============================================================================
+
+  private static String resource(String name) throws IOException {
+    try (InputStream in = JwtImplTests.class.getResourceAsStream("/" + name)) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
 }
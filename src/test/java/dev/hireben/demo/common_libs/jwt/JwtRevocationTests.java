@@ -0,0 +1,194 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.SecretKey;
+
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtRejectionReason;
+import dev.hireben.demo.common_libs.jwt.api.JwtRevocation;
+import dev.hireben.demo.common_libs.jwt.api.JwtRevocationSource;
+import dev.hireben.demo.common_libs.jwt.api.JwtRevocationStore;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenRevokedException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+final class JwtRevocationTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final SecretKey symmetricKey = Jwts.SIG.HS256.key().build();
+
+  private final JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+  private final JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+
+  @TempDir
+  Path directory;
+
+  // =============================================================================
+
+  @Test
+  void verifyToken_withRevokedTokenId_shouldThrowException() {
+    try (JwtRevocationStore store = newStore(null)) {
+      JwtVerifier revocationVerifier = new RevocationCheckingJwtVerifierImpl(verifier, store);
+      String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+      Claims claims = revocationVerifier.verifyToken(token);
+
+      store.revoke(claims.getId(), claims.getExpiration().toInstant());
+
+      Exception exception = assertThrows(TokenRevokedException.class, () -> revocationVerifier.verifyToken(token));
+      assertEquals("Token has been revoked", exception.getMessage());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withRevokedTokenId_shouldReturnRevokedRejection() {
+    try (JwtRevocationStore store = newStore(null)) {
+      JwtVerifier revocationVerifier = new RevocationCheckingJwtVerifierImpl(verifier, store);
+      String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+      String other = issuer.issueToken("2", null, null, Duration.ofMinutes(1), null);
+
+      store.revoke(verifier.verifyToken(token).getId(), Instant.now().plusSeconds(60));
+
+      Assertions.assertThat(revocationVerifier.verify(token))
+          .isEqualTo(new JwtVerification.Rejected(JwtRejectionReason.REVOKED, "Token has been revoked"));
+      Assertions.assertThat(revocationVerifier.verify(other)).isInstanceOf(JwtVerification.Verified.class);
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void revoke_withPastExpiry_shouldBeIgnored() {
+    try (JwtRevocationStore store = newStore(null)) {
+      store.revoke("expired", Instant.now().minusSeconds(1));
+
+      assertFalse(store.isRevoked("expired"));
+      assertEquals(0, store.size());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void revoke_beyondExpectedRevocations_shouldKeepEveryEntry() {
+    try (JwtRevocationStore store = newStore(null)) {
+      Instant expiresAt = Instant.now().plusSeconds(60);
+
+      for (int i = 0; i < 1_000; i++) {
+        store.revoke("jti-" + i, expiresAt);
+      }
+
+      for (int i = 0; i < 1_000; i++) {
+        assertTrue(store.isRevoked("jti-" + i));
+      }
+      assertFalse(store.isRevoked("jti-1000"));
+      assertEquals(1_000, store.size());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void poll_withAppendedFile_shouldReturnOnlyNewEntries() throws IOException {
+    Path file = directory.resolve("revocations.txt");
+    Files.writeString(file, "# revoked tokens\njti-1 4102444800\n");
+    JwtRevocationSource source = JwtRevocationSource.fromFile(file);
+
+    Assertions.assertThat(source.poll())
+        .containsExactly(new JwtRevocation("jti-1", Instant.ofEpochSecond(4102444800L)));
+
+    Files.writeString(file, "jti-2 4102444800\njti-3 41024", StandardOpenOption.APPEND);
+
+    Assertions.assertThat(source.poll()).extracting(JwtRevocation::getTokenId).containsExactly("jti-2");
+
+    Files.writeString(file, "44800\n", StandardOpenOption.APPEND);
+
+    Assertions.assertThat(source.poll()).extracting(JwtRevocation::getTokenId).containsExactly("jti-3");
+    Assertions.assertThat(source.poll()).isEmpty();
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void isRevoked_withPolledSource_shouldPickUpNewEntries() throws IOException {
+    Path file = directory.resolve("revocations.txt");
+    long expiresAt = Instant.now().plusSeconds(60).getEpochSecond();
+    Files.writeString(file, "jti-1 " + expiresAt + "\n");
+
+    try (JwtRevocationStore store = newStore(JwtRevocationSource.fromFile(file))) {
+      assertTrue(store.isRevoked("jti-1"));
+      assertFalse(store.isRevoked("jti-2"));
+
+      Files.writeString(file, "jti-2 " + expiresAt + "\n", StandardOpenOption.APPEND);
+
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> store.isRevoked("jti-2"));
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void newStore_withFailingInitialPoll_shouldThrowException() {
+    JwtRevocationSource source = () -> {
+      throw new IOException("Feed unavailable");
+    };
+
+    IllegalStateException e = assertThrows(IllegalStateException.class, () -> newStore(source));
+
+    assertEquals("Initial revocation poll failed", e.getMessage());
+    Assertions.assertThat(e).hasCauseInstanceOf(IOException.class);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void isRevoked_afterFailingScheduledPoll_shouldKeepLoadedEntries() {
+    Instant expiresAt = Instant.now().plusSeconds(60);
+    AtomicInteger polls = new AtomicInteger();
+    JwtRevocationSource source = () -> {
+      if (polls.getAndIncrement() == 0) {
+        return List.of(new JwtRevocation("jti-1", expiresAt));
+      }
+      throw new IOException("Feed unavailable");
+    };
+
+    try (JwtRevocationStore store = newStore(source)) {
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> polls.get() > 1);
+
+      assertTrue(store.isRevoked("jti-1"));
+    }
+  }
+
+  // =============================================================================
+
+  private static JwtRevocationStore newStore(JwtRevocationSource source) {
+    return new BloomJwtRevocationStore(source, Duration.ofMillis(50), 64, Clock.systemUTC());
+  }
+
+}
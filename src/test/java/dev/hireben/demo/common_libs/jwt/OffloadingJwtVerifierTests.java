@@ -0,0 +1,212 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.crypto.SecretKey;
+
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.OffloadingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenVerificationBusyException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+final class OffloadingJwtVerifierTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final SecretKey symmetricKey = Jwts.SIG.HS256.key().build();
+
+  private final JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+  private final JwtVerifier verifier = new JwtVerifierImpl(symmetricKey);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final AtomicInteger delegateCalls = new AtomicInteger();
+  private final JwtVerifier blockingVerifier = token -> {
+    delegateCalls.incrementAndGet();
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return verifier.verifyToken(token);
+  };
+
+  // =============================================================================
+
+  @Test
+  void constructOffloadingJwtVerifierImpl_withPendingBelowThreads_shouldThrowException() {
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> new OffloadingJwtVerifierImpl(verifier, 4, 2, Duration.ZERO));
+    assertEquals("Maximum pending verifications must not be less than the thread count", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_shouldReturnClaimsFromPool() {
+    try (OffloadingJwtVerifier offloading = new OffloadingJwtVerifierImpl(verifier, 2, 8, Duration.ofSeconds(1))) {
+      String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+      assertEquals("1", offloading.verifyToken(token).getSubject());
+      assertEquals(1, offloading.completedCount());
+      assertEquals(0, offloading.pendingCount());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withRegistry_shouldRecordQueueTime() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    try (OffloadingJwtVerifier offloading = JwtClients.newOffloadingVerifier(verifier, 2, 8, Duration.ofSeconds(1),
+        registry)) {
+      offloading.verifyToken(issuer.issueToken("1", null, null, Duration.ofMinutes(1), null));
+      offloading.verifyToken(issuer.issueToken("2", null, null, Duration.ofMinutes(1), null));
+
+      assertEquals(2, registry.get(InstrumentedJwtVerifierImpl.QUEUE_METRIC_NAME).timer().count());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withInvalidToken_shouldRethrowDelegateException() {
+    try (OffloadingJwtVerifier offloading = new OffloadingJwtVerifierImpl(verifier, 2, 8, Duration.ofSeconds(1))) {
+      assertThrows(MalformedJwtException.class, () -> offloading.verifyToken("not.a.token"));
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withConcurrentSameToken_shouldVerifyOnce() throws Exception {
+    String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    try (OffloadingJwtVerifier offloading = new OffloadingJwtVerifierImpl(blockingVerifier, 2, 8,
+        Duration.ofSeconds(1));
+        ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+
+      List<Future<Claims>> results = IntStream.range(0, 5)
+          .mapToObj(i -> callers.submit(() -> offloading.verifyToken(token)))
+          .toList();
+
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> offloading.sharedCount() == 4);
+      release.countDown();
+
+      Claims first = results.get(0).get();
+      for (Future<Claims> result : results) {
+        assertSame(first, result.get());
+      }
+      assertEquals(1, delegateCalls.get());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenPoolSaturated_shouldThrowBusyException() throws Exception {
+    String blocked = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+    String other = issuer.issueToken("2", null, null, Duration.ofMinutes(1), null);
+
+    try (OffloadingJwtVerifier offloading = new OffloadingJwtVerifierImpl(blockingVerifier, 1, 1, Duration.ZERO);
+        ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+
+      Future<Claims> pending = callers.submit(() -> offloading.verifyToken(blocked));
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> delegateCalls.get() == 1);
+
+      assertThrows(TokenVerificationBusyException.class, () -> offloading.verifyToken(other));
+      assertThrows(TokenVerificationBusyException.class, () -> offloading.verify(other));
+      assertEquals(2, offloading.rejectedCount());
+
+      release.countDown();
+      assertEquals("1", pending.get().getSubject());
+      Assertions.assertThat(offloading.totalQueueTimeNanos()).isNotNegative();
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void pendingCount_withRunningAndQueuedVerifications_shouldCountHeldPermits() throws Exception {
+    String running = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+    String queued = issuer.issueToken("2", null, null, Duration.ofMinutes(1), null);
+
+    try (OffloadingJwtVerifier offloading = new OffloadingJwtVerifierImpl(blockingVerifier, 1, 2, Duration.ZERO);
+        ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+
+      Future<Claims> first = callers.submit(() -> offloading.verifyToken(running));
+      Future<Claims> second = callers.submit(() -> offloading.verifyToken(queued));
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> offloading.pendingCount() == 2);
+
+      release.countDown();
+      assertEquals("1", first.get(5, TimeUnit.SECONDS).getSubject());
+      assertEquals("2", second.get(5, TimeUnit.SECONDS).getSubject());
+      assertEquals(0, offloading.pendingCount());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void close_withQueuedVerification_shouldFailItWithBusyException() throws Exception {
+    String running = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+    String queued = issuer.issueToken("2", null, null, Duration.ofMinutes(1), null);
+
+    try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      OffloadingJwtVerifier offloading = new OffloadingJwtVerifierImpl(blockingVerifier, 1, 2, Duration.ZERO);
+
+      Future<Claims> first = callers.submit(() -> offloading.verifyToken(running));
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> delegateCalls.get() == 1);
+
+      Future<Claims> second = callers.submit(() -> offloading.verifyToken(queued));
+      Future<Claims> sharedSecond = callers.submit(() -> offloading.verifyToken(queued));
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> offloading.sharedCount() == 1);
+
+      offloading.close();
+
+      ExecutionException exception = assertThrows(ExecutionException.class,
+          () -> second.get(5, TimeUnit.SECONDS));
+      Assertions.assertThat(exception).hasCauseInstanceOf(TokenVerificationBusyException.class);
+      ExecutionException sharedException = assertThrows(ExecutionException.class,
+          () -> sharedSecond.get(5, TimeUnit.SECONDS));
+      Assertions.assertThat(sharedException).hasCauseInstanceOf(TokenVerificationBusyException.class);
+
+      // The running verification is interrupted but still completes
+      assertEquals("1", first.get(5, TimeUnit.SECONDS).getSubject());
+      assertEquals(1, delegateCalls.get());
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(5))
+          .until(() -> offloading.pendingCount() == 0);
+    }
+  }
+
+}
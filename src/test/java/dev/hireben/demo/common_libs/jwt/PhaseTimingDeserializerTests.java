@@ -0,0 +1,57 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import javax.crypto.SecretKey;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureException;
+
+final class PhaseTimingDeserializerTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final SecretKey symmetricKey = Jwts.SIG.HS256.key().build();
+
+  private final JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, symmetricKey);
+  private final JwtVerifier verifier = new JwtVerifierImpl(symmetricKey)
+      .withDeserializer(new PhaseTimingDeserializer());
+
+  // =============================================================================
+
+  @Test
+  void verifyToken_withValidToken_shouldMarkOrderedPhases() {
+    String token = issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    PhaseTimingDeserializer.PhaseMarks marks = PhaseTimingDeserializer.start();
+    assertEquals("1", verifier.verifyToken(token).getSubject());
+
+    assertTrue(marks.isComplete());
+    Assertions.assertThat(marks.headerEnd).isGreaterThanOrEqualTo(marks.start);
+    Assertions.assertThat(marks.claimsStart).isGreaterThanOrEqualTo(marks.headerEnd);
+    Assertions.assertThat(marks.claimsEnd).isGreaterThanOrEqualTo(marks.claimsStart);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withBadSignature_shouldNotDeserializeClaims() {
+    String token = new JwtIssuerImpl(ISSUER_NAME, Jwts.SIG.HS256.key().build())
+        .issueToken("1", null, null, Duration.ofMinutes(1), null);
+
+    PhaseTimingDeserializer.PhaseMarks marks = PhaseTimingDeserializer.start();
+    assertThrows(SignatureException.class, () -> verifier.verifyToken(token));
+
+    assertFalse(marks.isComplete());
+  }
+
+}
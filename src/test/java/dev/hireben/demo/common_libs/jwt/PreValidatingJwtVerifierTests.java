@@ -0,0 +1,227 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.KeyPair;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtRejectionReason;
+import dev.hireben.demo.common_libs.jwt.api.JwtValidationPolicy;
+import dev.hireben.demo.common_libs.jwt.api.JwtValidationStage;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.PreValidatingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import dev.hireben.demo.common_libs.jwt.exception.TokenRevokedException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+final class PreValidatingJwtVerifierTests {
+
+  private static final String ISSUER_NAME = "hireben.dev";
+  private static final String AUDIENCE = "api.hireben.dev";
+  private static final KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+  private static final JwtValidationPolicy policy = JwtValidationPolicy.builder()
+      .requiredIssuer(ISSUER_NAME)
+      .requiredAudience(AUDIENCE)
+      .clockSkew(Duration.ofMinutes(1))
+      .maxTokenLength(2048)
+      .build();
+
+  private final JwtIssuer issuer = new JwtIssuerImpl(ISSUER_NAME, keyPair.getPrivate());
+  private final JwtVerifier verifier = new JwtVerifierImpl(keyPair.getPublic(), policy);
+  private final AtomicInteger delegateCalls = new AtomicInteger();
+  private final JwtVerifier countingVerifier = token -> {
+    delegateCalls.incrementAndGet();
+    return verifier.verifyToken(token);
+  };
+
+  // =============================================================================
+
+  @Test
+  void constructPreValidatingJwtVerifierImpl_withNegativeClockSkew_shouldThrowException() {
+    JwtValidationPolicy negativeSkew = JwtValidationPolicy.builder().clockSkew(Duration.ofSeconds(-1)).build();
+
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> new PreValidatingJwtVerifierImpl(verifier, negativeSkew, Clock.systemUTC()));
+    assertEquals("Clock skew must not be negative", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void constructVerifiers_withFractionalClockSkew_shouldThrowException() {
+    JwtValidationPolicy fractionalSkew = JwtValidationPolicy.builder().clockSkew(Duration.ofMillis(1500)).build();
+
+    Exception exception = assertThrows(IllegalArgumentException.class,
+        () -> new PreValidatingJwtVerifierImpl(verifier, fractionalSkew, Clock.systemUTC()));
+    assertEquals("Clock skew must be a whole number of seconds", exception.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> new JwtVerifierImpl(keyPair.getPublic(), fractionalSkew));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withAcceptableToken_shouldReachDelegate() {
+    PreValidatingJwtVerifier preValidating = preValidating(Clock.systemUTC());
+
+    String token = issuer.issueToken("1", List.of(AUDIENCE), null, Duration.ofMinutes(1), null);
+
+    assertEquals("1", preValidating.verifyToken(token).getSubject());
+    assertEquals(1, delegateCalls.get());
+    assertEquals(1, preValidating.passedCount());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenExpiredWithinClockSkew_shouldReachDelegate() {
+    PreValidatingJwtVerifier preValidating = preValidating(
+        Clock.offset(Clock.systemUTC(), Duration.ofSeconds(90)));
+
+    String token = issuer.issueToken("1", List.of(AUDIENCE), null, Duration.ofMinutes(1), null);
+
+    assertEquals("1", preValidating.verifyToken(token).getSubject());
+    assertEquals(0, preValidating.rejectedCount(JwtValidationStage.EXPIRATION));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenExpiredBeyondClockSkew_shouldRejectBeforeDelegate() {
+    PreValidatingJwtVerifier preValidating = preValidating(Clock.offset(Clock.systemUTC(), Duration.ofMinutes(5)));
+
+    String token = issuer.issueToken("1", List.of(AUDIENCE), null, Duration.ofMinutes(1), null);
+
+    assertThrows(ExpiredJwtException.class, () -> preValidating.verifyToken(token));
+    assertEquals(0, delegateCalls.get());
+    assertEquals(1, preValidating.rejectedCount(JwtValidationStage.EXPIRATION));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenNotYetUsable_shouldRejectBeforeDelegate() {
+    PreValidatingJwtVerifier preValidating = preValidating(Clock.systemUTC());
+
+    String token = issuer.issueToken("1", List.of(AUDIENCE), null, Duration.ofMinutes(5),
+        Instant.now().plus(Duration.ofMinutes(2)));
+
+    assertThrows(PrematureJwtException.class, () -> preValidating.verifyToken(token));
+    assertEquals(0, delegateCalls.get());
+    assertEquals(1, preValidating.rejectedCount(JwtValidationStage.NOT_BEFORE));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withWrongIssuer_shouldRejectBeforeDelegate() {
+    PreValidatingJwtVerifier preValidating = preValidating(Clock.systemUTC());
+
+    String token = new JwtIssuerImpl("other.dev", keyPair.getPrivate())
+        .issueToken("1", List.of(AUDIENCE), null, Duration.ofMinutes(1), null);
+
+    assertThrows(IncorrectClaimException.class, () -> preValidating.verifyToken(token));
+    assertEquals(0, delegateCalls.get());
+    assertEquals(1, preValidating.rejectedCount(JwtValidationStage.ISSUER));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withWrongAudience_shouldReturnRejection() {
+    PreValidatingJwtVerifier preValidating = preValidating(Clock.systemUTC());
+
+    String token = issuer.issueToken("1", List.of("other.hireben.dev"), null, Duration.ofMinutes(1), null);
+
+    JwtVerification result = preValidating.verify(token);
+
+    assertEquals(JwtRejectionReason.INVALID_CLAIMS, ((JwtVerification.Rejected) result).reason());
+    assertEquals(0, delegateCalls.get());
+    assertEquals(1, preValidating.rejectedCount(JwtValidationStage.AUDIENCE));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withOversizedOrMalformedToken_shouldRejectBeforeDelegate() {
+    PreValidatingJwtVerifier preValidating = preValidating(Clock.systemUTC());
+
+    assertThrows(TokenMalformedException.class, () -> preValidating.verifyToken("a".repeat(4096)));
+    assertThrows(TokenMalformedException.class, () -> preValidating.verifyToken("not-a-token"));
+    assertThrows(TokenMalformedException.class, () -> preValidating.verifyToken("e30.!!!.c2ln"));
+
+    assertEquals(0, delegateCalls.get());
+    assertEquals(1, preValidating.rejectedCount(JwtValidationStage.LENGTH));
+    assertEquals(2, preValidating.rejectedCount(JwtValidationStage.STRUCTURE));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withUnparseableNumericClaim_shouldReturnRejection() {
+    PreValidatingJwtVerifier preValidating = preValidating(Clock.systemUTC());
+
+    // {"exp":1-2}
+    JwtVerification verification = preValidating.verify("e30.eyJleHAiOjEtMn0.c2ln");
+
+    JwtVerification.Rejected rejected = assertInstanceOf(JwtVerification.Rejected.class, verification);
+    assertEquals(JwtRejectionReason.MALFORMED, rejected.reason());
+    assertEquals(0, delegateCalls.get());
+    assertEquals(1, preValidating.rejectedCount(JwtValidationStage.STRUCTURE));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withForgedSignature_shouldCountSignatureRejection() {
+    PreValidatingJwtVerifier preValidating = preValidating(Clock.systemUTC());
+
+    String token = new JwtIssuerImpl(ISSUER_NAME, Jwts.SIG.RS256.keyPair().build().getPrivate())
+        .issueToken("1", List.of(AUDIENCE), null, Duration.ofMinutes(1), null);
+
+    assertThrows(SignatureException.class, () -> preValidating.verifyToken(token));
+    assertEquals(1, delegateCalls.get());
+    assertEquals(1, preValidating.rejectedCount(JwtValidationStage.SIGNATURE));
+    assertEquals(0, preValidating.rejectedCount(JwtValidationStage.DELEGATE));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withDelegateRejection_shouldCountDelegateStage() {
+    JwtVerifier revokingVerifier = token -> {
+      throw new TokenRevokedException("Token has been revoked", false);
+    };
+    PreValidatingJwtVerifier preValidating = new PreValidatingJwtVerifierImpl(revokingVerifier, policy,
+        Clock.systemUTC());
+    String token = issuer.issueToken("1", List.of(AUDIENCE), null, Duration.ofMinutes(1), null);
+
+    JwtVerification verification = preValidating.verify(token);
+    assertThrows(TokenRevokedException.class, () -> preValidating.verifyToken(token));
+
+    JwtVerification.Rejected rejected = assertInstanceOf(JwtVerification.Rejected.class, verification);
+    assertEquals(JwtRejectionReason.REVOKED, rejected.reason());
+    assertEquals(2, preValidating.rejectedCount(JwtValidationStage.DELEGATE));
+    assertEquals(0, preValidating.rejectedCount(JwtValidationStage.SIGNATURE));
+  }
+
+  // =============================================================================
+
+  private PreValidatingJwtVerifier preValidating(Clock clock) {
+    return new PreValidatingJwtVerifierImpl(countingVerifier, policy, clock);
+  }
+
+}
@@ -0,0 +1,147 @@
+package dev.hireben.demo.common_libs.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+
+import dev.hireben.demo.common_libs.jwt.api.JwtRejectionReason;
+import dev.hireben.demo.common_libs.jwt.api.JwtRouteKey;
+import dev.hireben.demo.common_libs.jwt.api.JwtRoutingTable;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerification;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+import dev.hireben.demo.common_libs.jwt.api.RoutingJwtVerifier;
+import dev.hireben.demo.common_libs.jwt.exception.TokenMalformedException;
+import io.jsonwebtoken.IncorrectClaimException;
+import io.jsonwebtoken.Jwts;
+
+final class RoutingJwtVerifierTests {
+
+  private static final SecretKey accountsKey = Jwts.SIG.HS256.key().build();
+  private static final KeyPair billingKeyPair = Jwts.SIG.RS256.keyPair().build();
+  private static final KeyPair rotatedBillingKeyPair = Jwts.SIG.RS256.keyPair().build();
+
+  private final AtomicInteger accountsCalls = new AtomicInteger();
+  private final AtomicInteger billingCalls = new AtomicInteger();
+  private final JwtVerifier accountsVerifier = counting(new JwtVerifierImpl(accountsKey), accountsCalls);
+  private final JwtVerifier billingVerifier = counting(new JwtVerifierImpl(billingKeyPair.getPublic()), billingCalls);
+
+  // =============================================================================
+
+  @Test
+  void constructRoutingJwtVerifierImpl_withNullTable_shouldThrowException() {
+    Exception exception = assertThrows(NullPointerException.class, () -> new RoutingJwtVerifierImpl(null));
+    assertEquals("Routing table must not be null", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withKnownIssuers_shouldRouteToSingleVerifier() {
+    RoutingJwtVerifier verifier = new RoutingJwtVerifierImpl(JwtRoutingTable.builder()
+        .issuer("accounts", accountsVerifier)
+        .issuer("billing", billingVerifier)
+        .build());
+
+    assertEquals("1", verifier.verifyToken(issue(new JwtIssuerImpl("accounts", accountsKey))).getSubject());
+    assertEquals("1", verifier.verifyToken(issue(new JwtIssuerImpl("billing", billingKeyPair.getPrivate())))
+        .getSubject());
+
+    assertEquals(1, accountsCalls.get());
+    assertEquals(1, billingCalls.get());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verify_withUnknownIssuer_shouldRejectWithoutVerifying() {
+    RoutingJwtVerifier verifier = new RoutingJwtVerifierImpl(JwtRoutingTable.builder()
+        .issuer("accounts", accountsVerifier)
+        .build());
+
+    JwtVerification result = verifier.verify(issue(new JwtIssuerImpl("unknown", accountsKey)));
+
+    assertEquals(JwtRejectionReason.INVALID_CLAIMS, ((JwtVerification.Rejected) result).reason());
+    assertEquals(0, accountsCalls.get());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withKeyIdRoute_shouldPreferKeyIdOverIssuer() {
+    AtomicInteger rotatedCalls = new AtomicInteger();
+    RoutingJwtVerifier verifier = new RoutingJwtVerifierImpl(JwtRoutingTable.builder()
+        .issuer("billing", billingVerifier)
+        .keyRoute(new JwtRouteKey("billing", "rotated"),
+            counting(new JwtVerifierImpl(rotatedBillingKeyPair.getPublic()), rotatedCalls))
+        .build());
+
+    verifier.verifyToken(issue(new JwtIssuerImpl("billing", rotatedBillingKeyPair.getPrivate(), "rotated")));
+    verifier.verifyToken(issue(new JwtIssuerImpl("billing", billingKeyPair.getPrivate(), "current")));
+
+    assertEquals(1, rotatedCalls.get());
+    assertEquals(1, billingCalls.get());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void replaceRoutes_whenCalled_shouldRouteWithNewTable() {
+    RoutingJwtVerifier verifier = new RoutingJwtVerifierImpl(JwtRoutingTable.builder().build());
+    String token = issue(new JwtIssuerImpl("accounts", accountsKey));
+
+    assertThrows(IncorrectClaimException.class, () -> verifier.verifyToken(token));
+
+    verifier.replaceRoutes(JwtRoutingTable.builder().issuer("accounts", accountsVerifier).build());
+
+    assertEquals("1", verifier.verifyToken(token).getSubject());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_whenVerifiedIssuerDiffersFromRoute_shouldThrowException() {
+    JwtVerifier foreignVerifier = token -> new JwtVerifierImpl(accountsKey)
+        .verifyToken(issue(new JwtIssuerImpl("other", accountsKey)));
+    RoutingJwtVerifier verifier = new RoutingJwtVerifierImpl(JwtRoutingTable.builder()
+        .issuer("accounts", foreignVerifier)
+        .build());
+
+    assertThrows(IncorrectClaimException.class,
+        () -> verifier.verifyToken(issue(new JwtIssuerImpl("accounts", accountsKey))));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_withMalformedToken_shouldThrowException() {
+    RoutingJwtVerifier verifier = new RoutingJwtVerifierImpl(JwtRoutingTable.builder()
+        .issuer("accounts", accountsVerifier)
+        .build());
+
+    assertThrows(TokenMalformedException.class, () -> verifier.verifyToken("not-a-token"));
+    assertThrows(TokenMalformedException.class, () -> verifier.verifyToken("e30.bm90LWpzb24.c2ln"));
+  }
+
+  // =============================================================================
+
+  private static String issue(JwtIssuerImpl issuer) {
+    return issuer.issueToken("1", null, null, Duration.ofMinutes(1), null);
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private static JwtVerifier counting(JwtVerifier delegate, AtomicInteger calls) {
+    return token -> {
+      calls.incrementAndGet();
+      return delegate.verifyToken(token);
+    };
+  }
+
+}
@@ -0,0 +1,152 @@
+package dev.hireben.demo.common_libs.reader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.time.Duration;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.hireben.demo.common_libs.jwt.JwtClients;
+import dev.hireben.demo.common_libs.jwt.api.JwtIssuer;
+import dev.hireben.demo.common_libs.jwt.api.JwtVerifier;
+
+final class KeyFileSourceTests {
+
+  @TempDir
+  Path directory;
+
+  // =============================================================================
+
+  @Test
+  void get_shouldReturnCachedKey() throws IOException, GeneralSecurityException {
+    Path file = copy("ec-p256-public-x509.pem", "public.pem");
+
+    try (KeyFileSource<PublicKey> source = KeyFileSource.publicKey(file)) {
+      assertEquals("EC", source.get().getAlgorithm());
+      assertSame(source.get(), source.get());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void privateKey_withDerFile_shouldReturnPrivateKey() throws IOException, GeneralSecurityException {
+    PrivateKey key = KeyReader.readPrivateKeyPkcs8(resource("ed25519-private-pkcs8.pem"));
+    Path file = Files.write(directory.resolve("private.der"), key.getEncoded());
+
+    try (KeyFileSource<PrivateKey> source = KeyFileSource.privateKey(file)) {
+      assertEquals(key, source.get());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void publicKey_withInvalidFile_shouldThrowException() throws IOException {
+    Path file = Files.writeString(directory.resolve("public.pem"), "not a key");
+    assertThrows(InvalidKeySpecException.class, () -> KeyFileSource.publicKey(file));
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void reload_withUnchangedFile_shouldReturnFalse() throws IOException, GeneralSecurityException {
+    Path file = copy("rsa-public-x509.pem", "public.pem");
+
+    try (KeyFileSource<PublicKey> source = KeyFileSource.publicKey(file)) {
+      assertFalse(source.reload());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void get_afterFileReplaced_shouldReturnNewKey() throws IOException, GeneralSecurityException {
+    Path file = copy("ec-p256-public-x509.pem", "public.pem");
+
+    try (KeyFileSource<PublicKey> source = KeyFileSource.publicKey(file)) {
+      Path staged = copy("ed25519-public-x509.pem", "public.pem.tmp");
+      Files.move(staged, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(15))
+          .until(() -> "EdDSA".equals(source.get().getAlgorithm()));
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void get_afterFileCorrupted_shouldKeepPreviousKey() throws IOException, GeneralSecurityException {
+    Path file = copy("ec-p256-public-x509.pem", "public.pem");
+
+    try (KeyFileSource<PublicKey> source = KeyFileSource.publicKey(file)) {
+      PublicKey key = source.get();
+      Files.writeString(file, "-----BEGIN PUBLIC KEY-----\n");
+
+      assertThrows(InvalidKeySpecException.class, source::reload);
+      assertSame(key, source.get());
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void verifyToken_afterKeyRotation_shouldUseRotatedKeys() throws IOException, GeneralSecurityException {
+    Path privateFile = copy("ec-p256-private-pkcs8.pem", "private.pem");
+    Path publicFile = copy("ec-p256-public-x509.pem", "public.pem");
+
+    try (KeyFileSource<PrivateKey> privateKey = KeyFileSource.privateKey(privateFile);
+        KeyFileSource<PublicKey> publicKey = KeyFileSource.publicKey(publicFile)) {
+
+      JwtIssuer issuer = JwtClients.newIssuerWithPrivateKeySupplier("hireben.dev", privateKey);
+      JwtVerifier verifier = JwtClients.newVerifierWithPublicKeySupplier(publicKey);
+
+      assertEquals("1", verifier.verifyToken(issuer.issueToken("1", null, null, null, null)).getSubject());
+
+      copy("ed25519-private-pkcs8.pem", "private.pem");
+      copy("ed25519-public-x509.pem", "public.pem");
+
+      Awaitility.await()
+          .atMost(Duration.ofSeconds(15))
+          .until(() -> "EdDSA".equals(privateKey.get().getAlgorithm())
+              && "EdDSA".equals(publicKey.get().getAlgorithm()));
+
+      String rotated = issuer.issueToken("2", null, null, null, null);
+      assertEquals("2", verifier.verifyToken(rotated).getSubject());
+    }
+  }
+
+  // =============================================================================
+
+  private Path copy(String resource, String name) throws IOException {
+    try (InputStream in = getClass().getResourceAsStream("/" + resource)) {
+      Path target = directory.resolve(name);
+      Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+      return target;
+    }
+  }
+
+  // -----------------------------------------------------------------------------
+
+  private String resource(String name) throws IOException {
+    try (InputStream in = getClass().getResourceAsStream("/" + name)) {
+      return new String(in.readAllBytes());
+    }
+  }
+
+}
@@ -3,18 +3,23 @@ package dev.hireben.demo.common_libs.reader;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.interfaces.RSAPrivateCrtKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 final class KeyReaderTests {
@@ -74,4 +79,61 @@ final class KeyReaderTests {
     assertArrayEquals(publicKey.getEncoded(), derivedPublicKey.getEncoded());
   }
 
+  // -----------------------------------------------------------------------------
+
+  @ParameterizedTest
+  @CsvSource({
+      "rsa, RSA",
+      "ec-p256, EC",
+      "ec-p384, EC",
+      "ed25519, EdDSA"
+  })
+  void readPrivateKeyPkcs8_shouldDetectKeyAlgorithm(String name, String algorithm) throws IOException,
+      NoSuchAlgorithmException, InvalidKeySpecException {
+    PrivateKey key = KeyReader.readPrivateKeyPkcs8(resource("/" + name + "-private-pkcs8.pem"));
+    assertEquals(algorithm, key.getAlgorithm());
+    assertEquals("PKCS#8", key.getFormat());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @ParameterizedTest
+  @CsvSource({
+      "rsa, RSA",
+      "ec-p256, EC",
+      "ec-p384, EC",
+      "ed25519, EdDSA"
+  })
+  void readPublicKeyX509_shouldDetectKeyAlgorithm(String name, String algorithm) throws IOException,
+      NoSuchAlgorithmException, InvalidKeySpecException {
+    PublicKey key = KeyReader.readPublicKeyX509(resource("/" + name + "-public-x509.pem"));
+    assertEquals(algorithm, key.getAlgorithm());
+    assertEquals("X.509", key.getFormat());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void readPublicKeyX509_withUnsupportedAlgorithm_shouldThrowException() throws NoSuchAlgorithmException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("DSA");
+    generator.initialize(2048);
+    String pem = Base64.getEncoder().encodeToString(generator.generateKeyPair().getPublic().getEncoded());
+
+    Exception exception = assertThrows(NoSuchAlgorithmException.class, () -> KeyReader.readPublicKeyX509(pem));
+    assertEquals("Unsupported key algorithm: 1.2.840.10040.4.1", exception.getMessage());
+  }
+
+  // -----------------------------------------------------------------------------
+
+  @Test
+  void readPublicKeyX509_withMalformedKey_shouldThrowException() {
+    assertThrows(InvalidKeySpecException.class, () -> KeyReader.readPublicKeyX509("AAAA"));
+  }
+
+  // =============================================================================
+
+  private String resource(String name) throws IOException {
+    return new String(getClass().getResourceAsStream(name).readAllBytes());
+  }
+
 }